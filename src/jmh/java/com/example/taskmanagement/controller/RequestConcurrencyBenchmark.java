@@ -0,0 +1,139 @@
+package com.example.taskmanagement.controller;
+
+import com.example.taskmanagement.TaskMangementApplication;
+import com.example.taskmanagement.security.AuthenticatedUser;
+import com.example.taskmanagement.security.JwtUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.web.servlet.function.RouterFunction;
+import org.springframework.web.servlet.function.RouterFunctions;
+import org.springframework.web.servlet.function.ServerResponse;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time to complete a burst of {@code inFlight} concurrent authenticated requests, each doing one pooled
+ * JDBC query followed by {@code ioMillis} of blocking I/O (a stand-in for a slow downstream call),
+ * with Tomcat on its 200-thread platform pool versus virtual threads. The Hikari pool stays at 20
+ * connections in both modes.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RequestConcurrencyBenchmark {
+
+    @Param({"false", "true"})
+    public boolean virtualThreads;
+
+    @Param({"200", "1000"})
+    public int inFlight;
+
+    @Param({"50"})
+    public int ioMillis;
+
+    private ConfigurableApplicationContext context;
+
+    private HttpClient httpClient;
+
+    private ExecutorService clientExecutor;
+
+    private HttpRequest request;
+
+    @Setup
+    public void setUp() {
+        SpringApplication application = new SpringApplication(TaskMangementApplication.class);
+        application.setAdditionalProfiles("test");
+        application.addInitializers(context -> ((GenericApplicationContext) context).registerBean(
+                "blockingRoute", RouterFunction.class, () -> blockingRoute((GenericApplicationContext) context)));
+        context = application.run(
+                "--server.port=0",
+                "--server.tomcat.threads.max=200",
+                "--server.tomcat.max-connections=10000",
+                "--server.tomcat.accept-count=1000",
+                "--spring.threads.virtual.enabled=" + virtualThreads,
+                "--spring.datasource.hikari.maximum-pool-size=20",
+                "--jwt.claims-principal.enabled=true",
+                "--spring.jpa.show-sql=false",
+                "--logging.level.root=WARN",
+                "--logging.level.com.example.taskmanagement=WARN");
+
+        AuthenticatedUser user = new AuthenticatedUser(1L, "bench-user", null,
+                Set.of(new SimpleGrantedAuthority("ROLE_USER")), true);
+        String token = context.getBean(JwtUtils.class).generateJwtToken(
+                new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+
+        clientExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(clientExecutor)
+                .build();
+        request = HttpRequest.newBuilder(URI.create("http://localhost:"
+                        + context.getEnvironment().getProperty("local.server.port") + "/api/bench/blocking"))
+                .header("Authorization", "Bearer " + token)
+                .GET()
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        clientExecutor.close();
+        context.close();
+    }
+
+    @Benchmark
+    public int burst() throws Exception {
+        List<Future<HttpResponse<Void>>> responses = new ArrayList<>(inFlight);
+        for (int i = 0; i < inFlight; i++) {
+            responses.add(clientExecutor.submit(() -> httpClient.send(request, HttpResponse.BodyHandlers.discarding())));
+        }
+        int ok = 0;
+        for (Future<HttpResponse<Void>> response : responses) {
+            if (response.get().statusCode() == 200) {
+                ok++;
+            }
+        }
+        if (ok != inFlight) {
+            throw new IllegalStateException((inFlight - ok) + " requests failed");
+        }
+        return ok;
+    }
+
+    private RouterFunction<ServerResponse> blockingRoute(GenericApplicationContext context) {
+        return RouterFunctions.route()
+                .GET("/api/bench/blocking", request -> {
+                    context.getBean(JdbcTemplate.class).queryForObject("select count(*) from users", Long.class);
+                    Thread.sleep(ioMillis);
+                    return ServerResponse.ok().build();
+                })
+                .build();
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.taskmanagement.security;
+
+import com.example.taskmanagement.entity.User;
+import com.example.taskmanagement.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.when;
+
+/**
+ * One authenticated request through {@link JwtAuthenticationFilter}: header parse, signature check,
+ * principal resolution (cached lookup or claims) and security context population.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtAuthenticationFilterBenchmark {
+
+    @Param({"false", "true"})
+    public boolean claimsPrincipal;
+
+    private JwtAuthenticationFilter filter;
+
+    private MockHttpServletRequest request;
+
+    @Setup
+    public void setUp() {
+        JwtUtils jwtUtils = JwtBenchmark.newJwtUtils();
+
+        User user = new User();
+        user.setId(1L);
+        user.setUsername("bench-user");
+        user.setPassword("secret");
+        user.setRoles(Set.of(User.Role.USER));
+        UserRepository userRepository = Mockito.mock(UserRepository.class);
+        when(userRepository.findByUsername("bench-user")).thenReturn(Optional.of(user));
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        AuthenticatedPrincipalCache principalCache =
+                new AuthenticatedPrincipalCache(10_000, Duration.ofMinutes(5), 86_400_000L, meterRegistry);
+        filter = new JwtAuthenticationFilter(jwtUtils, new UserDetailsServiceImpl(userRepository), principalCache,
+                meterRegistry);
+        ReflectionTestUtils.setField(filter, "claimsPrincipalEnabled", claimsPrincipal);
+        filter.initMetrics();
+
+        String token = jwtUtils.generateJwtToken(JwtBenchmark.authenticationFor(1L, "bench-user"));
+        request = new MockHttpServletRequest("GET", "/api/tasks");
+        request.addHeader("Authorization", "Bearer " + token);
+    }
+
+    @Benchmark
+    public Object doFilter() throws Exception {
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        SecurityContextHolder.clearContext();
+        return principal;
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.taskmanagement.security;
+
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token issue and verification cost per request.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtBenchmark {
+
+    static final String SECRET = "5367566B59703373367639792F423F4528482B4D6251655468576D5A71347437";
+
+    private JwtUtils jwtUtils;
+
+    private Authentication authentication;
+
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtils = newJwtUtils();
+        authentication = authenticationFor(1L, "bench-user");
+        token = jwtUtils.generateJwtToken(authentication);
+    }
+
+    @Benchmark
+    public String generateJwtToken() {
+        return jwtUtils.generateJwtToken(authentication);
+    }
+
+    @Benchmark
+    public boolean validateJwtToken() {
+        return jwtUtils.validateJwtToken(token);
+    }
+
+    @Benchmark
+    public Claims parseClaims() {
+        return jwtUtils.parseClaims(token);
+    }
+
+    static JwtUtils newJwtUtils() {
+        JwtUtils jwtUtils = new JwtUtils();
+        ReflectionTestUtils.setField(jwtUtils, "jwtSecret", SECRET);
+        ReflectionTestUtils.setField(jwtUtils, "jwtExpiration", 86_400_000L);
+        jwtUtils.init();
+        return jwtUtils;
+    }
+
+    static Authentication authenticationFor(Long id, String username) {
+        AuthenticatedUser user = new AuthenticatedUser(id, username, "secret",
+                Set.of(new SimpleGrantedAuthority("ROLE_USER")), true);
+        return new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities());
+    }
+}
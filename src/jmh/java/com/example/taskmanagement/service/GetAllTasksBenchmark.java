@@ -0,0 +1,129 @@
+package com.example.taskmanagement.service;
+
+import com.example.taskmanagement.TaskMangementApplication;
+import com.example.taskmanagement.dto.TaskResponse;
+import com.example.taskmanagement.entity.Task.TaskStatus;
+import com.example.taskmanagement.security.AuthenticatedUser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link TaskService#getAllTasks} against the in-memory H2 test database seeded with
+ * {@code rows} tasks spread over {@value #USERS} owners, through the full JPA stack.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class GetAllTasksBenchmark {
+
+    private static final int USERS = 100;
+    private static final int INSERT_BATCH = 10_000;
+
+    @Param({"10000", "1000000"})
+    public int rows;
+
+    private ConfigurableApplicationContext context;
+
+    private TaskService taskService;
+
+    private final Pageable firstPage = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "createdAt"));
+
+    @Setup
+    public void setUp() {
+        SpringApplication application = new SpringApplication(TaskMangementApplication.class);
+        application.setWebApplicationType(WebApplicationType.NONE);
+        application.setAdditionalProfiles("test");
+        context = application.run(
+                "--spring.jpa.show-sql=false",
+                "--logging.level.root=WARN",
+                "--logging.level.com.example.taskmanagement=WARN");
+        taskService = context.getBean(TaskService.class);
+
+        seed(context.getBean(JdbcTemplate.class));
+
+        // Benchmark threads differ from the setup thread, so share one context across them
+        SecurityContextHolder.setStrategyName(SecurityContextHolder.MODE_GLOBAL);
+        AuthenticatedUser user = new AuthenticatedUser(1L, "user1", null,
+                Set.of(new SimpleGrantedAuthority("ROLE_USER")), true);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+    }
+
+    @TearDown
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+        context.close();
+    }
+
+    @Benchmark
+    public Page<TaskResponse> ownerFirstPage() {
+        return taskService.getAllTasks(null, firstPage);
+    }
+
+    @Benchmark
+    public Page<TaskResponse> ownerFirstPageByStatus() {
+        return taskService.getAllTasks(TaskStatus.IN_PROGRESS, firstPage);
+    }
+
+    private void seed(JdbcTemplate jdbcTemplate) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> users = new ArrayList<>(USERS);
+        for (long id = 1; id <= USERS; id++) {
+            users.add(new Object[]{id, "user" + id, "user" + id + "@example.com", "secret", true, now});
+        }
+        jdbcTemplate.batchUpdate("insert into users (id, username, email, password, active, created_at) "
+                + "values (?, ?, ?, ?, ?, ?)", users);
+
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 0, 0);
+        TaskStatus[] statuses = TaskStatus.values();
+        List<Object[]> batch = new ArrayList<>(INSERT_BATCH);
+        for (long id = 1; id <= rows; id++) {
+            Timestamp createdAt = Timestamp.valueOf(base.plusMinutes(id));
+            batch.add(new Object[]{id, "Task " + id, "Description of task " + id,
+                    statuses[(int) (id % statuses.length)].name(), (int) (id % 5),
+                    id % 3 == 0 ? null : Timestamp.valueOf(base.plusDays(id % 90)),
+                    id % USERS + 1, createdAt, createdAt});
+            if (batch.size() == INSERT_BATCH) {
+                insertTasks(jdbcTemplate, batch);
+                batch.clear();
+            }
+        }
+        insertTasks(jdbcTemplate, batch);
+    }
+
+    private static void insertTasks(JdbcTemplate jdbcTemplate, List<Object[]> batch) {
+        jdbcTemplate.batchUpdate("insert into tasks (id, title, description, status, priority, deadline, "
+                + "user_id, created_at, updated_at, version) values (?, ?, ?, ?, ?, ?, ?, ?, ?, 0)", batch);
+    }
+}
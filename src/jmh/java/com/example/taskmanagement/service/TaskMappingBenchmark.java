@@ -0,0 +1,61 @@
+package com.example.taskmanagement.service;
+
+import com.example.taskmanagement.dto.TaskResponse;
+import com.example.taskmanagement.entity.Task;
+import com.example.taskmanagement.entity.Task.TaskStatus;
+import com.example.taskmanagement.entity.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to {@link TaskResponse} mapping done for every task returned by the write endpoints.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TaskMappingBenchmark {
+
+    private TaskService taskService;
+
+    private Task task;
+
+    @Setup
+    public void setUp() {
+        // mapToResponse touches none of the collaborators
+        taskService = new TaskService(null, null, null, null, null, null, null, null, null);
+
+        User user = new User();
+        user.setId(1L);
+        user.setUsername("bench-user");
+
+        task = new Task();
+        task.setId(42L);
+        task.setTitle("Prepare quarterly report");
+        task.setDescription("Collect the numbers from finance and draft the summary");
+        task.setStatus(TaskStatus.IN_PROGRESS);
+        task.setPriority(2);
+        task.setDeadline(LocalDateTime.of(2025, 6, 30, 17, 0));
+        task.setUser(user);
+        task.setCreatedAt(LocalDateTime.of(2025, 6, 1, 9, 0));
+        task.setUpdatedAt(LocalDateTime.of(2025, 6, 2, 9, 0));
+    }
+
+    @Benchmark
+    public TaskResponse mapToResponse() {
+        return taskService.mapToResponse(task);
+    }
+}
@@ -0,0 +1,184 @@
+package com.example.taskmanagement.loadtest;
+
+import com.example.taskmanagement.entity.Task;
+import com.example.taskmanagement.entity.Task.TaskStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Seeds {@code users × tasksPerUser} rows with plain JDBC batches. The same seed always produces the
+ * same dataset, so runs against different releases see identical data.
+ *
+ * <p>Standalone usage against a local MySQL whose schema the application has already created:
+ * <pre>
+ * mvn -Ploadtest test-compile exec:java -Dexec.mainClass=com.example.taskmanagement.loadtest.DatasetGenerator \
+ *     -Dexec.args="--jdbc-url jdbc:mysql://localhost:3306/task_management --db-user root --db-password rootpassword \
+ *     --users 1000 --tasks-per-user 1000"
+ * </pre>
+ */
+@Slf4j
+public final class DatasetGenerator {
+
+    static final String USERNAME_PREFIX = "load-user-";
+    static final String DEFAULT_PASSWORD = "loadtest-password";
+
+    private static final int INSERT_BATCH = 5_000;
+
+    private static final TaskStatus[] STATUSES = {
+            TaskStatus.PENDING, TaskStatus.IN_PROGRESS, TaskStatus.COMPLETED, TaskStatus.CANCELLED};
+    private static final int[] STATUS_WEIGHTS = {35, 25, 35, 5};
+    private static final int[] PRIORITY_WEIGHTS = {40, 30, 20, 7, 3};
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final Random random;
+
+    public DatasetGenerator(JdbcTemplate jdbcTemplate, long seed) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.random = new Random(seed);
+    }
+
+    public static void main(String[] args) {
+        LoadTestOptions options = new LoadTestOptions(args);
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                options.string("jdbc-url", "jdbc:mysql://localhost:3306/task_management"),
+                options.string("db-user", "root"),
+                options.string("db-password", "rootpassword"));
+
+        new DatasetGenerator(new JdbcTemplate(dataSource), options.longValue("seed", 42))
+                .seed(options.integer("users", 100), options.integer("tasks-per-user", 100),
+                        options.string("password", DEFAULT_PASSWORD));
+    }
+
+    /**
+     * Inserts the users and their tasks, then moves the task id sequence past the new rows and clears
+     * the status counters so the application rebuilds them on its next start.
+     */
+    public void seed(int users, int tasksPerUser, String password) {
+        Integer existing = jdbcTemplate.queryForObject(
+                "select count(*) from users where username = ?", Integer.class, USERNAME_PREFIX + 1);
+        if (existing != null && existing > 0) {
+            throw new IllegalStateException("Load test dataset is already present");
+        }
+
+        long start = System.nanoTime();
+        long firstUserId = maxId("users") + 1;
+        long nextTaskId = maxId("tasks") + 1;
+
+        insertUsers(firstUserId, users, new BCryptPasswordEncoder().encode(password));
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> batch = new ArrayList<>(INSERT_BATCH);
+        for (long userId = firstUserId; userId < firstUserId + users; userId++) {
+            for (int i = 0; i < tasksPerUser; i++) {
+                batch.add(taskRow(nextTaskId++, userId, now));
+                if (batch.size() == INSERT_BATCH) {
+                    insertTasks(batch);
+                    batch.clear();
+                }
+            }
+        }
+        insertTasks(batch);
+
+        restartTaskSequence(nextTaskId);
+        jdbcTemplate.update("delete from task_status_counters");
+
+        log.info("Seeded {} users x {} tasks in {} ms", users, tasksPerUser,
+                (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private void insertUsers(long firstUserId, int users, String passwordHash) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(users);
+        List<Object[]> roles = new ArrayList<>(users);
+        for (int i = 0; i < users; i++) {
+            long id = firstUserId + i;
+            String username = USERNAME_PREFIX + (i + 1);
+            rows.add(new Object[]{id, username, username + "@example.com", passwordHash, true, now, now});
+            roles.add(new Object[]{id, "USER"});
+        }
+        jdbcTemplate.batchUpdate("insert into users (id, username, email, password, active, created_at, "
+                + "updated_at) values (?, ?, ?, ?, ?, ?, ?)", rows);
+        jdbcTemplate.batchUpdate("insert into user_roles (user_id, role) values (?, ?)", roles);
+    }
+
+    /**
+     * Created within the last year; two thirds have a deadline up to 60 days after creation,
+     * so a share of the open tasks are overdue.
+     */
+    private Object[] taskRow(long id, long userId, LocalDateTime now) {
+        LocalDateTime createdAt = now.minusMinutes(random.nextInt(365 * 24 * 60));
+        LocalDateTime updatedAt = createdAt.plusMinutes(random.nextInt(7 * 24 * 60));
+        if (updatedAt.isAfter(now)) {
+            updatedAt = now;
+        }
+        LocalDateTime deadline = random.nextInt(3) == 0 ? null : createdAt.plusHours(random.nextInt(60 * 24));
+
+        return new Object[]{id, "Task " + id, description(id),
+                STATUSES[weighted(STATUS_WEIGHTS)].name(), weighted(PRIORITY_WEIGHTS),
+                deadline != null ? Timestamp.valueOf(deadline) : null, userId,
+                Timestamp.valueOf(createdAt), Timestamp.valueOf(updatedAt)};
+    }
+
+    private String description(long id) {
+        int sentences = random.nextInt(4);
+        StringBuilder description = new StringBuilder();
+        for (int i = 0; i < sentences; i++) {
+            description.append("Step ").append(i + 1).append(" of task ").append(id)
+                    .append(": follow up with the team and update the tracker. ");
+        }
+        return description.isEmpty() ? null : description.toString().trim();
+    }
+
+    private int weighted(int[] weights) {
+        int total = 0;
+        for (int weight : weights) {
+            total += weight;
+        }
+        int pick = random.nextInt(total);
+        for (int i = 0; i < weights.length; i++) {
+            pick -= weights[i];
+            if (pick < 0) {
+                return i;
+            }
+        }
+        return weights.length - 1;
+    }
+
+    private void insertTasks(List<Object[]> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate("insert into tasks (id, title, description, status, priority, deadline, "
+                + "user_id, created_at, updated_at, version) values (?, ?, ?, ?, ?, ?, ?, ?, ?, 0)", batch);
+    }
+
+    /**
+     * The pooled optimizer hands out the block ending at the fetched value, so leave a full
+     * allocation of headroom above the highest inserted id.
+     */
+    private void restartTaskSequence(long nextTaskId) {
+        long restartAt = nextTaskId + Task.ID_ALLOCATION_SIZE;
+        String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+        if ("MySQL".equalsIgnoreCase(product)) {
+            jdbcTemplate.update("update tasks_seq set next_val = ?", restartAt);
+        } else {
+            jdbcTemplate.execute("alter sequence tasks_seq restart with " + restartAt);
+        }
+    }
+
+    private long maxId(String table) {
+        Long max = jdbcTemplate.queryForObject("select max(id) from " + table, Long.class);
+        return max != null ? max : 0;
+    }
+}
@@ -0,0 +1,366 @@
+package com.example.taskmanagement.loadtest;
+
+import com.example.taskmanagement.TaskMangementApplication;
+import com.example.taskmanagement.service.TaskStatsService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-model load driver: requests are issued at a fixed arrival rate, each on its own virtual thread,
+ * whether or not earlier ones have completed. Latency is measured from each request's intended start
+ * time, so a stalled server shows up in the percentiles instead of silently lowering the offered load.
+ *
+ * <p>Embedded run (starts the application on H2 and seeds it first):
+ * <pre>
+ * mvn -Ploadtest verify -Dloadtest.args="--embedded --users 100 --tasks-per-user 100 --rate 200 --duration 60"
+ * </pre>
+ * Against an already seeded server: {@code --base-url http://localhost:8080 --users 1000 ...}.
+ * Per-endpoint histograms ({@code .hgrm}) and a {@code summary.csv} are written to {@code --out}
+ * for comparison between releases.
+ */
+@Slf4j
+public final class LoadDriver {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    enum Endpoint {
+        LOGIN(5), LIST(40), GET(25), CREATE(15), UPDATE(10), DELETE(5);
+
+        final int weight;
+
+        Endpoint(int weight) {
+            this.weight = weight;
+        }
+    }
+
+    private final String baseUrl;
+    private final String password;
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<Endpoint, Recorder> recorders = new EnumMap<>(Endpoint.class);
+    private final Map<Endpoint, LongAdder> errors = new EnumMap<>(Endpoint.class);
+    private final List<Session> sessions = new ArrayList<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder dropped = new LongAdder();
+    private final int maxInFlight;
+
+    LoadDriver(String baseUrl, String password, int maxInFlight) {
+        this.baseUrl = baseUrl;
+        this.password = password;
+        this.maxInFlight = maxInFlight;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        for (Endpoint endpoint : Endpoint.values()) {
+            recorders.put(endpoint, new Recorder(HIGHEST_TRACKABLE_MICROS, 3));
+            errors.put(endpoint, new LongAdder());
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = new LoadTestOptions(args);
+        int users = options.integer("users", 100);
+        String password = options.string("password", DatasetGenerator.DEFAULT_PASSWORD);
+
+        ConfigurableApplicationContext context = null;
+        String baseUrl = options.string("base-url", "http://localhost:8080");
+        if (options.flag("embedded")) {
+            context = startEmbedded(users, options.integer("tasks-per-user", 100), password,
+                    options.longValue("seed", 42));
+            baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+        }
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            LoadDriver driver = new LoadDriver(baseUrl, password, options.integer("max-in-flight", 10_000));
+            driver.login(Math.min(users, options.integer("sessions", 50)));
+
+            int rate = options.integer("rate", 100);
+            driver.run(executor, rate, options.duration("warmup", Duration.ofSeconds(10)));
+            driver.resetRecorders();
+            driver.run(executor, rate, options.duration("duration", Duration.ofSeconds(60)));
+
+            executor.shutdown();
+            executor.awaitTermination(REQUEST_TIMEOUT.toSeconds(), TimeUnit.SECONDS);
+            driver.report(Path.of(options.string("out", "target/loadtest")));
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+        }
+    }
+
+    private static ConfigurableApplicationContext startEmbedded(int users, int tasksPerUser, String password,
+                                                                long seed) {
+        SpringApplication application = new SpringApplication(TaskMangementApplication.class);
+        application.setAdditionalProfiles("test");
+        ConfigurableApplicationContext context = application.run(
+                "--server.port=0",
+                "--spring.jpa.show-sql=false",
+                "--rate-limit.enabled=false",
+                "--task.outbox.dispatcher.enabled=true",
+                "--logging.level.root=WARN",
+                "--logging.level.com.example.taskmanagement=WARN");
+
+        new DatasetGenerator(context.getBean(JdbcTemplate.class), seed).seed(users, tasksPerUser, password);
+        context.getBean(TaskStatsService.class).rebuild();
+        return context;
+    }
+
+    void login(int count) throws IOException, InterruptedException {
+        for (int i = 1; i <= count; i++) {
+            Session session = new Session(DatasetGenerator.USERNAME_PREFIX + i);
+            HttpResponse<String> response = send(loginRequest(session));
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("Login failed for " + session.username + ": " + response.body());
+            }
+            session.token = objectMapper.readTree(response.body()).path("data").path("token").asText();
+
+            JsonNode page = objectMapper.readTree(send(authorized(session, "/api/tasks?size=50").GET().build()).body());
+            page.path("content").forEach(task -> session.addTaskId(task.path("id").asLong()));
+            sessions.add(session);
+        }
+        log.info("Logged in {} sessions", sessions.size());
+    }
+
+    void run(ExecutorService executor, int rate, Duration duration) {
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / rate;
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+
+        for (long i = 0; ; i++) {
+            long intendedStart = start + i * intervalNanos;
+            if (intendedStart >= end) {
+                break;
+            }
+            long wait = intendedStart - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            if (inFlight.incrementAndGet() > maxInFlight) {
+                inFlight.decrementAndGet();
+                dropped.increment();
+                continue;
+            }
+            executor.execute(() -> {
+                try {
+                    execute(pickEndpoint(), pickSession(), intendedStart);
+                } finally {
+                    inFlight.decrementAndGet();
+                }
+            });
+        }
+    }
+
+    private void execute(Endpoint endpoint, Session session, long intendedStart) {
+        Long taskId = switch (endpoint) {
+            case GET, UPDATE -> session.randomTaskId();
+            case DELETE -> session.removeRandomTaskId();
+            default -> null;
+        };
+        boolean needsTask = endpoint == Endpoint.GET || endpoint == Endpoint.UPDATE || endpoint == Endpoint.DELETE;
+        if (needsTask && taskId == null) {
+            endpoint = Endpoint.LIST;
+        }
+
+        boolean success;
+        try {
+            HttpResponse<String> response = send(request(endpoint, session, taskId));
+            success = response.statusCode() / 100 == 2;
+            if (success) {
+                onSuccess(endpoint, session, response.body());
+            }
+        } catch (Exception e) {
+            success = false;
+        }
+
+        long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - intendedStart);
+        recorders.get(endpoint).recordValue(Math.min(micros, HIGHEST_TRACKABLE_MICROS));
+        if (!success) {
+            errors.get(endpoint).increment();
+        }
+    }
+
+    private HttpRequest request(Endpoint endpoint, Session session, Long taskId) throws IOException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return switch (endpoint) {
+            case LOGIN -> loginRequest(session);
+            case LIST -> authorized(session, "/api/tasks?page=" + random.nextInt(5) + "&size=20").GET().build();
+            case GET -> authorized(session, "/api/tasks/" + taskId).GET().build();
+            case CREATE -> authorized(session, "/api/tasks")
+                    .POST(json(taskBody("Load test task " + random.nextInt(1_000_000), null)))
+                    .build();
+            case UPDATE -> authorized(session, "/api/tasks/" + taskId)
+                    .PUT(json(taskBody("Updated task " + taskId, random.nextBoolean() ? "IN_PROGRESS" : "COMPLETED")))
+                    .build();
+            case DELETE -> authorized(session, "/api/tasks/" + taskId).DELETE().build();
+        };
+    }
+
+    private void onSuccess(Endpoint endpoint, Session session, String body) throws IOException {
+        if (endpoint == Endpoint.LOGIN) {
+            session.token = objectMapper.readTree(body).path("data").path("token").asText();
+        } else if (endpoint == Endpoint.CREATE) {
+            session.addTaskId(objectMapper.readTree(body).path("data").path("id").asLong());
+        }
+    }
+
+    private HttpRequest loginRequest(Session session) throws IOException {
+        ObjectNode body = objectMapper.createObjectNode()
+                .put("username", session.username)
+                .put("password", password);
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/api/auth/login"))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json")
+                .POST(json(body))
+                .build();
+    }
+
+    private ObjectNode taskBody(String title, String status) {
+        ObjectNode body = objectMapper.createObjectNode()
+                .put("title", title)
+                .put("description", "Created by the load driver")
+                .put("priority", ThreadLocalRandom.current().nextInt(5))
+                .put("deadline", LocalDateTime.now().plusDays(7).withNano(0).toString());
+        if (status != null) {
+            body.put("status", status);
+        }
+        return body;
+    }
+
+    private HttpRequest.Builder authorized(Session session, String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Authorization", "Bearer " + session.token)
+                .header("Content-Type", "application/json");
+    }
+
+    private HttpRequest.BodyPublisher json(Object body) throws IOException {
+        return HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body));
+    }
+
+    private HttpResponse<String> send(HttpRequest request) throws IOException, InterruptedException {
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private Endpoint pickEndpoint() {
+        int total = 0;
+        for (Endpoint endpoint : Endpoint.values()) {
+            total += endpoint.weight;
+        }
+        int pick = ThreadLocalRandom.current().nextInt(total);
+        for (Endpoint endpoint : Endpoint.values()) {
+            pick -= endpoint.weight;
+            if (pick < 0) {
+                return endpoint;
+            }
+        }
+        return Endpoint.LIST;
+    }
+
+    private Session pickSession() {
+        return sessions.get(ThreadLocalRandom.current().nextInt(sessions.size()));
+    }
+
+    void resetRecorders() {
+        recorders.values().forEach(Recorder::reset);
+        errors.values().forEach(LongAdder::reset);
+        dropped.reset();
+    }
+
+    void report(Path outDir) throws IOException {
+        Files.createDirectories(outDir);
+        List<String> summary = new ArrayList<>();
+        summary.add("endpoint,count,errors,p50_ms,p90_ms,p99_ms,p999_ms,max_ms");
+
+        System.out.printf("%n%-8s %9s %7s %9s %9s %9s %9s %9s%n",
+                "endpoint", "count", "errors", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (Endpoint endpoint : Endpoint.values()) {
+            Histogram histogram = recorders.get(endpoint).getIntervalHistogram();
+            long errorCount = errors.get(endpoint).sum();
+            double[] values = {
+                    millis(histogram.getValueAtPercentile(50)),
+                    millis(histogram.getValueAtPercentile(90)),
+                    millis(histogram.getValueAtPercentile(99)),
+                    millis(histogram.getValueAtPercentile(99.9)),
+                    millis(histogram.getMaxValue())};
+
+            System.out.printf("%-8s %9d %7d %9.2f %9.2f %9.2f %9.2f %9.2f%n", endpoint,
+                    histogram.getTotalCount(), errorCount, values[0], values[1], values[2], values[3], values[4]);
+            summary.add(String.format("%s,%d,%d,%.3f,%.3f,%.3f,%.3f,%.3f", endpoint,
+                    histogram.getTotalCount(), errorCount, values[0], values[1], values[2], values[3], values[4]));
+
+            try (PrintStream out = new PrintStream(Files.newOutputStream(
+                    outDir.resolve(endpoint.name().toLowerCase() + ".hgrm")))) {
+                histogram.outputPercentileDistribution(out, 1000.0);
+            }
+        }
+        System.out.printf("dropped (over max in-flight): %d%n", dropped.sum());
+        Files.write(outDir.resolve("summary.csv"), summary);
+        log.info("Histograms written to {}", outDir.toAbsolutePath());
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+
+    private static final class Session {
+
+        private final String username;
+        private final List<Long> taskIds = new ArrayList<>();
+        private volatile String token;
+
+        Session(String username) {
+            this.username = username;
+        }
+
+        synchronized void addTaskId(long id) {
+            taskIds.add(id);
+        }
+
+        synchronized Long randomTaskId() {
+            return taskIds.isEmpty() ? null : taskIds.get(ThreadLocalRandom.current().nextInt(taskIds.size()));
+        }
+
+        synchronized Long removeRandomTaskId() {
+            if (taskIds.isEmpty()) {
+                return null;
+            }
+            int index = ThreadLocalRandom.current().nextInt(taskIds.size());
+            Long id = taskIds.get(index);
+            taskIds.set(index, taskIds.get(taskIds.size() - 1));
+            taskIds.remove(taskIds.size() - 1);
+            return id;
+        }
+    }
+}
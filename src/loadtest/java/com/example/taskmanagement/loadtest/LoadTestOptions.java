@@ -0,0 +1,54 @@
+package com.example.taskmanagement.loadtest;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * {@code --key value} command line options; a key without a value is a boolean flag.
+ */
+final class LoadTestOptions {
+
+    private final Map<String, String> values = new HashMap<>();
+
+    LoadTestOptions(String[] args) {
+        for (int i = 0; i < args.length; i++) {
+            if (!args[i].startsWith("--")) {
+                throw new IllegalArgumentException("Unexpected argument: " + args[i]);
+            }
+            String key = args[i].substring(2);
+            if (i + 1 < args.length && !args[i + 1].startsWith("--")) {
+                values.put(key, args[++i]);
+            } else {
+                values.put(key, "true");
+            }
+        }
+    }
+
+    String string(String key, String defaultValue) {
+        return values.getOrDefault(key, defaultValue);
+    }
+
+    int integer(String key, int defaultValue) {
+        return values.containsKey(key) ? Integer.parseInt(values.get(key)) : defaultValue;
+    }
+
+    long longValue(String key, long defaultValue) {
+        return values.containsKey(key) ? Long.parseLong(values.get(key)) : defaultValue;
+    }
+
+    boolean flag(String key) {
+        return Boolean.parseBoolean(values.get(key));
+    }
+
+    /**
+     * Durations as ISO-8601 ({@code PT2M}) or plain seconds.
+     */
+    Duration duration(String key, Duration defaultValue) {
+        String value = values.get(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        return value.startsWith("P") ? Duration.parse(value) : Duration.ofSeconds(Long.parseLong(value));
+    }
+}
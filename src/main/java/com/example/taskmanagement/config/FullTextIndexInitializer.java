@@ -0,0 +1,44 @@
+package com.example.taskmanagement.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Creates the MySQL FULLTEXT index behind task search. JPA's {@code @Index} cannot declare a
+ * FULLTEXT index, so it is added here when missing; other databases use the LIKE fallback.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class FullTextIndexInitializer {
+
+    private static final String INDEX_NAME = "ft_tasks_title_description";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void createFullTextIndex() {
+        String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+        if (!"MySQL".equalsIgnoreCase(product)) {
+            return;
+        }
+
+        Integer existing = jdbcTemplate.queryForObject(
+                "select count(*) from information_schema.statistics "
+                        + "where table_schema = database() and table_name = 'tasks' and index_name = ?",
+                Integer.class, INDEX_NAME);
+        if (existing != null && existing > 0) {
+            return;
+        }
+
+        // The first FULLTEXT index rebuilds the table to add its hidden document id column
+        log.info("Creating FULLTEXT index {} on tasks(title, description)", INDEX_NAME);
+        jdbcTemplate.execute("alter table tasks add fulltext index " + INDEX_NAME + " (title, description)");
+    }
+}
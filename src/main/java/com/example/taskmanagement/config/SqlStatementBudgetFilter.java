@@ -0,0 +1,83 @@
+package com.example.taskmanagement.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Counts the SQL statements each request runs, including the ones made while authenticating it,
+ * records them per endpoint and logs requests that go over the statement budget, which is how
+ * N+1 loads and lazy associations show up.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@Slf4j
+public class SqlStatementBudgetFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry meterRegistry;
+
+    private final int statementBudget;
+
+    public SqlStatementBudgetFilter(MeterRegistry meterRegistry,
+                                    @Value("${sql.statement-budget:20}") int statementBudget) {
+        this.meterRegistry = meterRegistry;
+        this.statementBudget = statementBudget;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        SqlStatementStats stats = SqlStatementStats.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            SqlStatementStats.end();
+            request.setAttribute(SqlStatementStats.REQUEST_ATTRIBUTE, stats);
+            record(request, stats);
+        }
+    }
+
+    private void record(HttpServletRequest request, SqlStatementStats stats) {
+        String method = request.getMethod();
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+
+        DistributionSummary.builder("request.sql.statements")
+                .description("SQL statements executed per request")
+                .baseUnit("statements")
+                .tags("method", method, "uri", uri)
+                .register(meterRegistry)
+                .record(stats.getStatements());
+        Timer.builder("request.sql.time")
+                .description("Time spent executing SQL statements per request")
+                .tags("method", method, "uri", uri)
+                .register(meterRegistry)
+                .record(stats.getElapsedMillis(), TimeUnit.MILLISECONDS);
+
+        if (stats.getStatements() > statementBudget) {
+            Counter.builder("request.sql.budget.exceeded")
+                    .description("Requests that executed more SQL statements than the budget")
+                    .tags("method", method, "uri", uri)
+                    .register(meterRegistry)
+                    .increment();
+            log.warn("{} {} executed {} SQL statements in {} ms, over the budget of {}",
+                    method, uri, stats.getStatements(), stats.getElapsedMillis(), statementBudget);
+        }
+    }
+}
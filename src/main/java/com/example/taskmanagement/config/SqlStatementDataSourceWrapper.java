@@ -0,0 +1,60 @@
+package com.example.taskmanagement.config;
+
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Wraps every {@link DataSource} in a datasource-proxy so each JDBC statement, whether issued by
+ * Hibernate or a {@code JdbcTemplate}, is counted against the current request and logged when slow.
+ * The proxy unwraps to the pool, so Hikari metrics and health checks still see it.
+ */
+@Component
+@Slf4j
+public class SqlStatementDataSourceWrapper implements BeanPostProcessor {
+
+    private final long slowStatementMillis;
+
+    public SqlStatementDataSourceWrapper(
+            @Value("${sql.slow-statement-threshold:500ms}") Duration slowStatementThreshold) {
+        this.slowStatementMillis = slowStatementThreshold.toMillis();
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+            return ProxyDataSourceBuilder.create(beanName, dataSource)
+                    .listener(new StatementListener())
+                    .build();
+        }
+        return bean;
+    }
+
+    private class StatementListener implements QueryExecutionListener {
+
+        @Override
+        public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        }
+
+        @Override
+        public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            long elapsed = execInfo.getElapsedTime();
+            SqlStatementStats.record(elapsed);
+            if (elapsed >= slowStatementMillis && !queryInfoList.isEmpty()) {
+                log.warn("Slow SQL statement ({} ms{}): {}", elapsed,
+                        execInfo.isBatch() ? ", batch of " + execInfo.getBatchSize() : "",
+                        queryInfoList.get(0).getQuery());
+            }
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.taskmanagement.config;
+
+/**
+ * JDBC statements executed on the request thread while a request is in flight. Every execute call
+ * counts once, so a JDBC batch is one statement however many rows it carries.
+ */
+public final class SqlStatementStats {
+
+    /** Request attribute holding the finished request's stats. */
+    public static final String REQUEST_ATTRIBUTE = SqlStatementStats.class.getName();
+
+    private static final ThreadLocal<SqlStatementStats> CURRENT = new ThreadLocal<>();
+
+    private int statements;
+
+    private long elapsedMillis;
+
+    private SqlStatementStats() {
+    }
+
+    static SqlStatementStats begin() {
+        SqlStatementStats stats = new SqlStatementStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    /** Adds one statement to the current request, if the calling thread is serving one. */
+    static void record(long elapsedMillis) {
+        SqlStatementStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.statements++;
+            stats.elapsedMillis += elapsedMillis;
+        }
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.taskmanagement.config;
+
+import com.example.taskmanagement.entity.Task;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Moves the MySQL {@code tasks_seq} table above the existing task ids. Schema update creates it
+ * starting at 1, which on a database whose ids came from IDENTITY would collide with existing rows.
+ * Runs once the schema is in place but before the web server takes requests, so no id block can be
+ * fetched from the old value; other databases create their sequence with the schema and need nothing.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TaskSequenceInitializer {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // Depended on so the schema, and with it the sequence table, exists first
+    private final EntityManagerFactory entityManagerFactory;
+
+    @PostConstruct
+    void alignTaskSequence() {
+        String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+        if (!"MySQL".equalsIgnoreCase(product)) {
+            return;
+        }
+
+        // The pooled optimizer hands out the block ending at the fetched value, so leave a full block of headroom
+        Long maxId = jdbcTemplate.queryForObject("select coalesce(max(id), 0) from tasks", Long.class);
+        long floor = maxId + Task.ID_ALLOCATION_SIZE + 1;
+        Long nextVal = jdbcTemplate.queryForObject("select max(next_val) from " + Task.ID_SEQUENCE, Long.class);
+        if (nextVal == null) {
+            jdbcTemplate.update("insert into " + Task.ID_SEQUENCE + " (next_val) values (?)", floor);
+        } else if (nextVal < floor) {
+            // Conditional, so an instance already allocating from a higher value is never moved back
+            jdbcTemplate.update("update " + Task.ID_SEQUENCE + " set next_val = ? where next_val < ?", floor, floor);
+        } else {
+            return;
+        }
+        log.info("Moved {} to {}, above the highest task id {}", Task.ID_SEQUENCE, floor, maxId);
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.taskmanagement.config;
+
+import com.example.taskmanagement.entity.User;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import jakarta.persistence.SharedCacheMode;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * Hibernate second-level cache for {@link User}: the entity, its roles and the username natural-id
+ * lookup, held in process by Caffeine through JCache. Writes and deletes made through Hibernate evict
+ * on commit; anything else (another instance, plain SQL) is picked up once the entry expires.
+ * Hit and miss counts are reported per region through the Hibernate statistics metrics.
+ */
+@Configuration
+public class UserCacheConfig {
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(
+            @Value("${user-cache.maximum-size:10000}") long maximumSize,
+            @Value("${user-cache.ttl:10m}") Duration ttl) {
+        CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        // The provider's default manager is JVM-wide; each application context gets its own
+        CacheManager cacheManager = provider.getCacheManager(
+                URI.create("hibernate-" + UUID.randomUUID()), getClass().getClassLoader());
+        for (String region : List.of(User.CACHE_REGION, User.ROLES_CACHE_REGION, User.USERNAME_CACHE_REGION)) {
+            cacheManager.createCache(region, new CaffeineConfiguration<>()
+                    .setMaximumSize(OptionalLong.of(maximumSize))
+                    .setExpireAfterWrite(OptionalLong.of(ttl.toNanos()))
+                    // Hibernate caches immutable disassembled state, so copying on every read is wasted work
+                    .setStoreByValue(false));
+        }
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(AvailableSettings.JAKARTA_SHARED_CACHE_MODE, SharedCacheMode.ENABLE_SELECTIVE);
+            properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            // Every region is sized above; an unexpected one is a mapping mistake, not a default to fall back on
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+}
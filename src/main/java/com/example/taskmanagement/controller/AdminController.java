@@ -1,7 +1,17 @@
 package com.example.taskmanagement.controller;
 
 import com.example.taskmanagement.dto.ApiResponse;
+import com.example.taskmanagement.dto.CursorPage;
+import com.example.taskmanagement.dto.TaskEvent;
+import com.example.taskmanagement.dto.TaskFileFormat;
+import com.example.taskmanagement.dto.TaskStatsResponse;
+import com.example.taskmanagement.dto.UserDeletionReport;
+import com.example.taskmanagement.entity.AuditEntry;
 import com.example.taskmanagement.entity.User;
+import com.example.taskmanagement.service.AuditLog;
+import com.example.taskmanagement.service.TaskEventBroadcaster;
+import com.example.taskmanagement.service.TaskService;
+import com.example.taskmanagement.service.TaskStatsService;
 import com.example.taskmanagement.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
@@ -10,9 +20,15 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.Set;
 
 @RestController
 @RequestMapping("/api/admin")
@@ -23,6 +39,12 @@ import org.springframework.web.bind.annotation.*;
 public class AdminController {
 
     private final UserService userService;
+    private final TaskService taskService;
+    private final TaskStatsService taskStatsService;
+    private final TaskEventBroadcaster taskEventBroadcaster;
+    private final AuditLog auditLog;
+
+    private static final int MAX_AUDIT_PAGE_SIZE = 200;
 
     @GetMapping("/users")
     @Operation(summary = "Get all users (Admin only)")
@@ -43,9 +65,65 @@ public class AdminController {
     }
 
     @DeleteMapping("/users/{id}")
-    @Operation(summary = "Delete user (Admin only)")
-    public ResponseEntity<ApiResponse<Void>> deleteUser(@PathVariable Long id) {
-        userService.deleteUser(id);
-        return ResponseEntity.ok(ApiResponse.success("User deleted successfully", null));
+    @Operation(summary = "Disable a user and delete it with its tasks in the background (Admin only)")
+    public ResponseEntity<ApiResponse<UserDeletionReport>> deleteUser(@PathVariable Long id) {
+        UserDeletionReport report = userService.deleteUser(id);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.success("User deletion started", report));
+    }
+
+    @GetMapping("/users/{id}/deletion")
+    @Operation(summary = "Get the progress of a user deletion (Admin only)")
+    public ResponseEntity<ApiResponse<UserDeletionReport>> getUserDeletion(@PathVariable Long id) {
+        UserDeletionReport report = userService.getDeletionProgress(id);
+        return ResponseEntity.ok(ApiResponse.success("User deletion status retrieved successfully", report));
+    }
+
+    @GetMapping("/audit")
+    @Operation(summary = "Page the audit trail newest first, optionally by entity or actor (Admin only)")
+    public ResponseEntity<CursorPage<AuditEntry>> getAuditHistory(
+            @RequestParam(required = false) AuditEntry.EntityType entityType,
+            @RequestParam(required = false) Long entityId,
+            @RequestParam(required = false) Long actorId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size) {
+
+        int pageSize = Math.max(1, Math.min(size, MAX_AUDIT_PAGE_SIZE));
+        CursorPage<AuditEntry> history = auditLog.getHistory(entityType, entityId, actorId, cursor, pageSize);
+        return ResponseEntity.ok(history);
+    }
+
+    @GetMapping("/tasks/stats")
+    @Operation(summary = "Get system-wide task counts by status and overdue count (Admin only)")
+    public ResponseEntity<ApiResponse<TaskStatsResponse>> getSystemTaskStats() {
+        TaskStatsResponse stats = taskStatsService.getSystemStats();
+        return ResponseEntity.ok(ApiResponse.success("Task statistics retrieved successfully", stats));
+    }
+
+    @PostMapping("/tasks/stats/rebuild")
+    @Operation(summary = "Recompute the task status counters from the tasks table (Admin only)")
+    public ResponseEntity<ApiResponse<TaskStatsResponse>> rebuildTaskStats() {
+        taskStatsService.rebuild();
+        TaskStatsResponse stats = taskStatsService.getSystemStats();
+        return ResponseEntity.ok(ApiResponse.success("Task statistics rebuilt successfully", stats));
+    }
+
+    @GetMapping("/tasks/events")
+    @Operation(summary = "Server-sent event stream of every user's task changes, optionally filtered (Admin only)")
+    public SseEmitter streamAllTaskEvents(
+            @RequestParam(required = false) Long userId,
+            @RequestParam(required = false) Set<TaskEvent.Type> type) {
+        return taskEventBroadcaster.subscribeAll(userId, type != null ? type : Set.of());
+    }
+
+    @GetMapping("/tasks/export")
+    @Operation(summary = "Stream every task in the system as NDJSON or CSV (Admin only)")
+    public ResponseEntity<StreamingResponseBody> exportAllTasks(
+            @RequestParam(defaultValue = "NDJSON") TaskFileFormat format) {
+        StreamingResponseBody body = out -> taskService.exportAllTasks(format, out);
+        return ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"all-tasks." + format.getExtension() + "\"")
+                .body(body);
     }
-}
\ No newline at end of file
+}
@@ -1,22 +1,42 @@
 package com.example.taskmanagement.controller;
 
 import com.example.taskmanagement.dto.ApiResponse;
+import com.example.taskmanagement.dto.CursorPage;
+import com.example.taskmanagement.dto.TaskBatchCreateRequest;
+import com.example.taskmanagement.dto.TaskBatchDeleteRequest;
+import com.example.taskmanagement.dto.TaskBatchStatusRequest;
+import com.example.taskmanagement.dto.TaskBatchUpdateRequest;
+import com.example.taskmanagement.dto.TaskBulkStatusRequest;
+import com.example.taskmanagement.dto.TaskChanges;
+import com.example.taskmanagement.dto.TaskFileFormat;
+import com.example.taskmanagement.dto.TaskImportReport;
 import com.example.taskmanagement.dto.TaskRequest;
 import com.example.taskmanagement.dto.TaskResponse;
+import com.example.taskmanagement.dto.TaskStatsResponse;
 import com.example.taskmanagement.entity.Task.TaskStatus;
+import com.example.taskmanagement.service.TaskETags;
 import com.example.taskmanagement.service.TaskService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/tasks")
@@ -25,6 +45,13 @@ import org.springframework.web.bind.annotation.*;
 @Tag(name = "Tasks", description = "Task Management APIs")
 public class TaskController {
 
+    private static final int MAX_SCROLL_SIZE = 100;
+
+    private static final int MAX_CHANGES_SIZE = 1000;
+
+    // Lets clients keep a copy but revalidate it with If-None-Match on every use
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
     private final TaskService taskService;
 
     @PostMapping
@@ -43,30 +70,122 @@ public class TaskController {
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "createdAt") String sortBy,
-            @RequestParam(defaultValue = "DESC") String sortDir) {
+            @RequestParam(defaultValue = "DESC") String sortDir,
+            WebRequest webRequest) {
 
         Sort sort = sortDir.equalsIgnoreCase("ASC") ?
                 Sort.by(sortBy).ascending() : Sort.by(sortBy).descending();
         Pageable pageable = PageRequest.of(page, size, sort);
 
+        // Checked before the page query, so an unchanged list costs one aggregate query
+        String etag = taskService.getAllTasksETag(status, pageable);
+        if (webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(REVALIDATE).build();
+        }
+
         Page<TaskResponse> tasks = taskService.getAllTasks(status, pageable);
+        return ResponseEntity.ok().eTag(etag).cacheControl(REVALIDATE).body(tasks);
+    }
+
+    @GetMapping("/scroll")
+    @Operation(summary = "Get tasks with cursor-based (keyset) pagination, without a total count")
+    public ResponseEntity<CursorPage<TaskResponse>> scrollTasks(
+            @RequestParam(required = false) TaskStatus status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "createdAt") String sortBy,
+            @RequestParam(defaultValue = "DESC") String sortDir) {
+
+        int pageSize = Math.max(1, Math.min(size, MAX_SCROLL_SIZE));
+        CursorPage<TaskResponse> tasks = taskService.scrollTasks(status, sortBy, sortDir, cursor, pageSize);
+        return ResponseEntity.ok(tasks);
+    }
+
+    @GetMapping("/changes")
+    @Operation(summary = "Delta sync: tasks created or updated and ids of tasks deleted since a sync token")
+    public ResponseEntity<TaskChanges> getChanges(
+            @RequestParam(required = false) String since,
+            @RequestParam(defaultValue = "500") int limit) {
+
+        int batchSize = Math.max(1, Math.min(limit, MAX_CHANGES_SIZE));
+        TaskChanges changes = taskService.getChanges(since, batchSize);
+        return ResponseEntity.ok(changes);
+    }
+
+    @GetMapping("/events")
+    @Operation(summary = "Server-sent event stream of changes to the caller's tasks")
+    public SseEmitter streamEvents() {
+        return taskService.subscribeToEvents();
+    }
+
+    @GetMapping("/search")
+    @Operation(summary = "Full-text search over task title and description, most relevant first")
+    public ResponseEntity<List<TaskResponse>> searchTasks(
+            @RequestParam String q,
+            @RequestParam(required = false) TaskStatus status,
+            @RequestParam(defaultValue = "20") int limit) {
+
+        int maxResults = Math.max(1, Math.min(limit, MAX_SCROLL_SIZE));
+        List<TaskResponse> tasks = taskService.searchTasks(q, status, maxResults);
         return ResponseEntity.ok(tasks);
     }
 
+    @GetMapping("/stats")
+    @Operation(summary = "Get task counts by status and priority, and overdue count, for the current user")
+    public ResponseEntity<ApiResponse<TaskStatsResponse>> getTaskStats() {
+        TaskStatsResponse stats = taskService.getTaskStats();
+        return ResponseEntity.ok(ApiResponse.success("Task statistics retrieved successfully", stats));
+    }
+
+    @GetMapping("/export")
+    @Operation(summary = "Stream all of the current user's tasks as NDJSON or CSV")
+    public ResponseEntity<StreamingResponseBody> exportTasks(
+            @RequestParam(defaultValue = "NDJSON") TaskFileFormat format) {
+        StreamingResponseBody body = out -> taskService.exportTasks(format, out);
+        return ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"tasks." + format.getExtension() + "\"")
+                .body(body);
+    }
+
+    @PostMapping(value = "/import", consumes = {"application/x-ndjson", "text/csv", "application/octet-stream"})
+    @Operation(summary = "Import tasks from an NDJSON or CSV body, streamed and inserted in chunks")
+    public ResponseEntity<ApiResponse<TaskImportReport>> importTasks(
+            @RequestParam(defaultValue = "NDJSON") TaskFileFormat format,
+            @RequestParam(required = false) String jobId,
+            HttpServletRequest request) throws IOException {
+        TaskImportReport report = taskService.importTasks(request.getInputStream(), format, jobId);
+        return ResponseEntity.ok(ApiResponse.success("Import finished", report));
+    }
+
+    @GetMapping("/import/{jobId}")
+    @Operation(summary = "Get the progress of a running or recent import")
+    public ResponseEntity<ApiResponse<TaskImportReport>> getImportProgress(@PathVariable String jobId) {
+        TaskImportReport report = taskService.getImportProgress(jobId);
+        return ResponseEntity.ok(ApiResponse.success("Import progress retrieved successfully", report));
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Get task by ID")
     public ResponseEntity<ApiResponse<TaskResponse>> getTaskById(@PathVariable Long id) {
         TaskResponse task = taskService.getTaskById(id);
-        return ResponseEntity.ok(ApiResponse.success("Task retrieved successfully", task));
+        // A matching If-None-Match turns this into a 304 before the body is serialized
+        return ResponseEntity.ok()
+                .eTag(TaskETags.forTask(task))
+                .cacheControl(REVALIDATE)
+                .body(ApiResponse.success("Task retrieved successfully", task));
     }
 
     @PutMapping("/{id}")
     @Operation(summary = "Update task")
     public ResponseEntity<ApiResponse<TaskResponse>> updateTask(
             @PathVariable Long id,
-            @Valid @RequestBody TaskRequest request) {
-        TaskResponse task = taskService.updateTask(id, request);
-        return ResponseEntity.ok(ApiResponse.success("Task updated successfully", task));
+            @Valid @RequestBody TaskRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        TaskResponse task = taskService.updateTask(id, request, ifMatch);
+        return ResponseEntity.ok()
+                .eTag(TaskETags.forTask(task))
+                .body(ApiResponse.success("Task updated successfully", task));
     }
 
     @DeleteMapping("/{id}")
@@ -75,4 +194,45 @@ public class TaskController {
         taskService.deleteTask(id);
         return ResponseEntity.ok(ApiResponse.success("Task deleted successfully", null));
     }
+
+    @PostMapping("/batch")
+    @Operation(summary = "Create multiple tasks in one request")
+    public ResponseEntity<ApiResponse<List<TaskResponse>>> createTasks(
+            @Valid @RequestBody TaskBatchCreateRequest request) {
+        List<TaskResponse> tasks = taskService.createTasks(request.getTasks());
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.success("Tasks created successfully", tasks));
+    }
+
+    @PutMapping("/batch")
+    @Operation(summary = "Update multiple tasks in one request")
+    public ResponseEntity<ApiResponse<List<TaskResponse>>> updateTasks(
+            @Valid @RequestBody TaskBatchUpdateRequest request) {
+        List<TaskResponse> tasks = taskService.updateTasks(request.getTasks());
+        return ResponseEntity.ok(ApiResponse.success("Tasks updated successfully", tasks));
+    }
+
+    @PatchMapping("/batch/status")
+    @Operation(summary = "Move multiple tasks to a status")
+    public ResponseEntity<ApiResponse<List<TaskResponse>>> updateTaskStatuses(
+            @Valid @RequestBody TaskBatchStatusRequest request) {
+        List<TaskResponse> tasks = taskService.updateTaskStatuses(request.getIds(), request.getStatus());
+        return ResponseEntity.ok(ApiResponse.success("Task statuses updated successfully", tasks));
+    }
+
+    @PatchMapping("/status")
+    @Operation(summary = "Move all tasks matching a filter to a status in one statement")
+    public ResponseEntity<ApiResponse<Integer>> bulkUpdateStatus(
+            @Valid @RequestBody TaskBulkStatusRequest request) {
+        int updated = taskService.bulkUpdateStatus(request);
+        return ResponseEntity.ok(ApiResponse.success("Task statuses updated successfully", updated));
+    }
+
+    @PostMapping("/batch/delete")
+    @Operation(summary = "Delete multiple tasks in one request")
+    public ResponseEntity<ApiResponse<Integer>> deleteTasks(
+            @Valid @RequestBody TaskBatchDeleteRequest request) {
+        int deleted = taskService.deleteTasks(request.getIds());
+        return ResponseEntity.ok(ApiResponse.success("Tasks deleted successfully", deleted));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,15 @@
+package com.example.taskmanagement.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class TaskBatchDeleteRequest {
+
+    @NotEmpty(message = "Task ids are required")
+    @Size(max = 1000, message = "A batch must not exceed 1000 tasks")
+    private List<Long> ids;
+}
@@ -0,0 +1,20 @@
+package com.example.taskmanagement.dto;
+
+import com.example.taskmanagement.entity.Task.TaskStatus;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class TaskBatchStatusRequest {
+
+    @NotEmpty(message = "Task ids are required")
+    @Size(max = 1000, message = "A batch must not exceed 1000 tasks")
+    private List<Long> ids;
+
+    @NotNull(message = "Status is required")
+    private TaskStatus status;
+}
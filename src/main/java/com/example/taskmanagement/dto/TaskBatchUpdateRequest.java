@@ -0,0 +1,28 @@
+package com.example.taskmanagement.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class TaskBatchUpdateRequest {
+
+    @NotEmpty(message = "Tasks are required")
+    @Size(max = 1000, message = "A batch must not exceed 1000 tasks")
+    private List<@Valid Item> tasks;
+
+    @Data
+    public static class Item {
+
+        @NotNull(message = "Task id is required")
+        private Long id;
+
+        @NotNull(message = "Task is required")
+        @Valid
+        private TaskRequest task;
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.taskmanagement.dto;
+
+import com.example.taskmanagement.entity.Task.TaskStatus;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Moves every task matching the filter to {@code status} in a single statement.
+ * Filters are combined with AND; at least one is required.
+ */
+@Data
+public class TaskBulkStatusRequest {
+
+    @NotNull(message = "Status is required")
+    private TaskStatus status;
+
+    private TaskStatus currentStatus;
+
+    private LocalDateTime deadlineBefore;
+
+    @Size(max = 1000, message = "Must not exceed 1000 task ids")
+    private List<Long> ids;
+
+    /**
+     * Owner to restrict to. Only honoured for admins; other users are always limited to their own tasks.
+     */
+    private Long userId;
+}
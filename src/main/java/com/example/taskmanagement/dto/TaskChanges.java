@@ -0,0 +1,23 @@
+package com.example.taskmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * One delta-sync batch: tasks created or updated and ids of tasks deleted since the request token.
+ * Pass {@code nextToken} as {@code since} on the next call; {@code hasMore} means call again now.
+ */
+@Data
+@AllArgsConstructor
+public class TaskChanges {
+
+    private List<TaskResponse> changed;
+
+    private List<Long> deletedIds;
+
+    private boolean hasMore;
+
+    private String nextToken;
+}
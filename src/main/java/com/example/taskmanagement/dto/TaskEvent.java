@@ -0,0 +1,44 @@
+package com.example.taskmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A committed task change pushed to event streams. {@code task} is absent for deletions and resyncs;
+ * a resync means the change set is not known (or events were dropped) and the client should catch up
+ * through delta sync. A resync with no {@code userId} applies to every user.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskEvent {
+
+    private Type type;
+
+    private Long taskId;
+
+    private Long userId;
+
+    private TaskResponse task;
+
+    public static TaskEvent created(TaskResponse task) {
+        return new TaskEvent(Type.CREATED, task.getId(), task.getUserId(), task);
+    }
+
+    public static TaskEvent updated(TaskResponse task) {
+        return new TaskEvent(Type.UPDATED, task.getId(), task.getUserId(), task);
+    }
+
+    public static TaskEvent deleted(Long taskId, Long userId) {
+        return new TaskEvent(Type.DELETED, taskId, userId, null);
+    }
+
+    public static TaskEvent resync(Long userId) {
+        return new TaskEvent(Type.RESYNC, null, userId, null);
+    }
+
+    public enum Type {
+        CREATED, UPDATED, DELETED, RESYNC
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.taskmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * A task event as delivered by the outbox. Delivery is at least once, so consumers deduplicate on
+ * {@code id}, which increases with commit order for each user.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskEventMessage {
+
+    private Long id;
+
+    private LocalDateTime occurredAt;
+
+    private TaskEvent event;
+}
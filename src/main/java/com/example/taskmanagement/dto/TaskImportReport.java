@@ -0,0 +1,44 @@
+package com.example.taskmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class TaskImportReport {
+
+    private String jobId;
+
+    private Status status;
+
+    private long processed;
+
+    private long imported;
+
+    private long failed;
+
+    private LocalDateTime startedAt;
+
+    private LocalDateTime finishedAt;
+
+    /**
+     * Row-level errors, capped so a badly broken file can't exhaust memory; {@code failed} is always exact.
+     */
+    private List<RowError> errors;
+
+    public enum Status {
+        RUNNING, COMPLETED, FAILED
+    }
+
+    @Data
+    @AllArgsConstructor
+    public static class RowError {
+
+        private long row;
+
+        private String message;
+    }
+}
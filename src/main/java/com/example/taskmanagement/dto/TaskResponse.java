@@ -33,4 +33,6 @@ public class TaskResponse {
     private LocalDateTime createdAt;
 
     private LocalDateTime updatedAt;
+
+    private Long version;
 }
\ No newline at end of file
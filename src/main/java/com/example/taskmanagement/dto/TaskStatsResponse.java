@@ -0,0 +1,26 @@
+package com.example.taskmanagement.dto;
+
+import com.example.taskmanagement.entity.Task.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.Map;
+
+@Data
+@AllArgsConstructor
+public class TaskStatsResponse {
+
+    private long total;
+
+    private Map<TaskStatus, Long> byStatus;
+
+    /**
+     * Open (pending or in progress) tasks whose deadline has passed.
+     */
+    private long overdue;
+
+    /**
+     * Task count per priority; {@code null} for the system-wide rollup.
+     */
+    private Map<Integer, Long> byPriority;
+}
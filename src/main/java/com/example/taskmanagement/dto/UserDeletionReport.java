@@ -0,0 +1,34 @@
+package com.example.taskmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+@AllArgsConstructor
+public class UserDeletionReport {
+
+    private Long userId;
+
+    private String username;
+
+    private Status status;
+
+    /**
+     * Tasks the user owned when the purge started; {@code null} until it has been counted.
+     */
+    private Long tasksTotal;
+
+    private long tasksDeleted;
+
+    private LocalDateTime startedAt;
+
+    private LocalDateTime finishedAt;
+
+    private String error;
+
+    public enum Status {
+        RUNNING, COMPLETED, FAILED
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.taskmanagement.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+/**
+ * Append-only record of who changed a task or user. Written in batches by the audit writer, so ids
+ * follow write order and history pages by id.
+ */
+@Entity
+@Immutable
+@Table(name = "task_audit", indexes = {
+        @Index(name = "idx_task_audit_entity", columnList = "entity_type, entity_id, id"),
+        @Index(name = "idx_task_audit_actor", columnList = "actor_id, id")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuditEntry {
+
+    // Pooled so each flush goes out as one JDBC batch
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_audit_seq")
+    @SequenceGenerator(name = "task_audit_seq", sequenceName = "task_audit_seq", allocationSize = 100)
+    private Long id;
+
+    @Column(name = "occurred_at", nullable = false)
+    private LocalDateTime occurredAt;
+
+    @Column(name = "actor_id")
+    private Long actorId;
+
+    @Column(length = 50)
+    private String actor;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 32)
+    private Action action;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entity_type", nullable = false, length = 16)
+    private EntityType entityType;
+
+    @Column(name = "entity_id")
+    private Long entityId;
+
+    @Column(length = 500)
+    private String details;
+
+    public enum EntityType {
+        TASK, USER
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public enum Action {
+        TASK_CREATED(EntityType.TASK),
+        TASK_UPDATED(EntityType.TASK),
+        TASK_DELETED(EntityType.TASK),
+        // Bulk updates and imports: the entity is the owner whose tasks changed, none for all users
+        TASKS_BULK_CHANGED(EntityType.USER),
+        USER_REGISTERED(EntityType.USER),
+        USER_DELETED(EntityType.USER);
+
+        private final EntityType entityType;
+    }
+}
@@ -10,14 +10,27 @@ import org.hibernate.annotations.UpdateTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "tasks")
+@Table(name = "tasks", indexes = {
+        @Index(name = "idx_tasks_user_status_created", columnList = "user_id, status, created_at, id"),
+        @Index(name = "idx_tasks_user_created", columnList = "user_id, created_at, id"),
+        @Index(name = "idx_tasks_user_priority", columnList = "user_id, priority, id"),
+        @Index(name = "idx_tasks_user_deadline", columnList = "user_id, deadline, id"),
+        @Index(name = "idx_tasks_user_updated", columnList = "user_id, updated_at, id"),
+        @Index(name = "idx_tasks_status_deadline", columnList = "status, deadline")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Task {
 
+    public static final String ID_SEQUENCE = "tasks_seq";
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    // Pooled sequence ids let Hibernate batch inserts; IDENTITY forces one round-trip per row.
+    // On MySQL this is emulated by the tasks_seq table, which TaskSequenceInitializer keeps above max(id).
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = ID_SEQUENCE)
+    @SequenceGenerator(name = ID_SEQUENCE, sequenceName = ID_SEQUENCE, allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     @Column(nullable = false, length = 200)
@@ -46,6 +59,11 @@ public class Task {
     @UpdateTimestamp
     private LocalDateTime updatedAt;
 
+    // Optimistic lock against lost updates; bulk JPQL updates bump it explicitly
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     public enum TaskStatus {
         PENDING, IN_PROGRESS, COMPLETED, CANCELLED
     }
@@ -0,0 +1,60 @@
+package com.example.taskmanagement.entity;
+
+import com.example.taskmanagement.dto.TaskEvent;
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * A task event waiting for delivery to the outbox sinks, written in the transaction that made the
+ * change and deleted once every sink has accepted it. {@code nextAttemptAt} is set on the oldest
+ * event of a user whose delivery failed; the user's later events wait behind it.
+ *
+ * <p>Ids only identify events: pooled ids follow neither insert nor commit order across instances.
+ * Delivery order comes from {@code sequenceNumber}, which increases with commit order per user.
+ */
+@Entity
+@Table(name = "task_outbox", indexes = {
+        @Index(name = "idx_task_outbox_user_next_attempt", columnList = "user_id, next_attempt_at"),
+        @Index(name = "idx_task_outbox_sequence", columnList = "sequence_number")
+})
+@Data
+@NoArgsConstructor
+public class TaskOutboxEvent {
+
+    // Pooled like tasks, so a batch write records its events in one JDBC batch
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_outbox_seq")
+    @SequenceGenerator(name = "task_outbox_seq", sequenceName = "task_outbox_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "sequence_number", nullable = false)
+    private long sequenceNumber;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, length = 16)
+    private TaskEvent.Type eventType;
+
+    @Column(name = "task_id")
+    private Long taskId;
+
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at")
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+}
@@ -0,0 +1,32 @@
+package com.example.taskmanagement.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * A named lease held by one instance at a time, renewed by its holder and taken over once it expires.
+ */
+@Entity
+@Table(name = "task_outbox_lease")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskOutboxLease {
+
+    @Id
+    @Column(length = 50)
+    private String name;
+
+    @Column(nullable = false, length = 100)
+    private String owner;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,30 @@
+package com.example.taskmanagement.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Last outbox sequence number handed out for one user's events; user 0 stands for events without an
+ * owner. Writers lock the row until they commit, so a user's numbers follow commit order.
+ */
+@Entity
+@Table(name = "task_outbox_sequences")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskOutboxSequence {
+
+    public static final long NO_OWNER = 0L;
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "last_sequence_number", nullable = false)
+    private long lastSequenceNumber;
+}
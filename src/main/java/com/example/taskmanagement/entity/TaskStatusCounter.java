@@ -0,0 +1,40 @@
+package com.example.taskmanagement.entity;
+
+import com.example.taskmanagement.entity.Task.TaskStatus;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * Incrementally maintained task count per status. Each status is striped over several slots so
+ * concurrent writers rarely contend on the same row; the total is the sum over slots.
+ */
+@Entity
+@Table(name = "task_status_counters")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskStatusCounter {
+
+    @EmbeddedId
+    private Key id;
+
+    @Column(name = "task_count", nullable = false)
+    private Long taskCount = 0L;
+
+    @Embeddable
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+
+        @Enumerated(EnumType.STRING)
+        @Column(length = 20)
+        private TaskStatus status;
+
+        private Integer slot;
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.taskmanagement.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Record of a deleted task, kept for the retention period so delta sync can tell clients to drop it.
+ * Plain columns rather than associations: the task row is gone, and the owner may be deleted later.
+ */
+@Entity
+@Table(name = "task_tombstones", indexes = {
+        @Index(name = "idx_task_tombstones_user_deleted", columnList = "user_id, deleted_at, id"),
+        @Index(name = "idx_task_tombstones_deleted", columnList = "deleted_at")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskTombstone {
+
+    // Pooled like tasks, so a batch delete writes its tombstones in one JDBC batch
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_tombstones_seq")
+    @SequenceGenerator(name = "task_tombstones_seq", sequenceName = "task_tombstones_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "task_id", nullable = false)
+    private Long taskId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "deleted_at", nullable = false)
+    private LocalDateTime deletedAt;
+}
@@ -4,7 +4,11 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
@@ -13,15 +17,24 @@ import java.util.Set;
 
 @Entity
 @Table(name = "users")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = User.CACHE_REGION)
+@NaturalIdCache(region = User.USERNAME_CACHE_REGION)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class User {
 
+    /** Second-level cache regions, sized in {@code UserCacheConfig}. */
+    public static final String CACHE_REGION = "users";
+    public static final String ROLES_CACHE_REGION = "users.roles";
+    public static final String USERNAME_CACHE_REGION = "users.by-username";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    @NaturalId
     @Column(nullable = false, unique = true, length = 50)
     private String username;
 
@@ -32,6 +45,7 @@ public class User {
     private String password;
 
     @ElementCollection(fetch = FetchType.EAGER)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = User.ROLES_CACHE_REGION)
     @CollectionTable(name = "user_roles", joinColumns = @JoinColumn(name = "user_id"))
     @Column(name = "role")
     @Enumerated(EnumType.STRING)
@@ -40,6 +54,11 @@ public class User {
     @Column(nullable = false)
     private Boolean active = true;
 
+    /**
+     * Set when the user is deleted; the account stays disabled while its tasks are purged in the background.
+     */
+    private LocalDateTime deletionRequestedAt;
+
     @CreationTimestamp
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
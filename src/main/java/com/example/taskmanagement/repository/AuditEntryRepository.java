@@ -0,0 +1,31 @@
+package com.example.taskmanagement.repository;
+
+import com.example.taskmanagement.entity.AuditEntry;
+import com.example.taskmanagement.entity.AuditEntry.EntityType;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface AuditEntryRepository extends JpaRepository<AuditEntry, Long> {
+
+    /**
+     * Newest first, strictly before the {@code beforeId} keyset position when given. Every filter is
+     * optional.
+     */
+    @Query("select a from AuditEntry a "
+            + "where (:entityType is null or a.entityType = :entityType) "
+            + "and (:entityId is null or a.entityId = :entityId) "
+            + "and (:actorId is null or a.actorId = :actorId) "
+            + "and (:beforeId is null or a.id < :beforeId) "
+            + "order by a.id desc")
+    List<AuditEntry> findHistory(@Param("entityType") EntityType entityType,
+                                 @Param("entityId") Long entityId,
+                                 @Param("actorId") Long actorId,
+                                 @Param("beforeId") Long beforeId,
+                                 Limit limit);
+}
@@ -0,0 +1,10 @@
+package com.example.taskmanagement.repository;
+
+import java.time.LocalDateTime;
+
+public interface TaskListVersion {
+
+    Long getCount();
+
+    LocalDateTime getLastUpdatedAt();
+}
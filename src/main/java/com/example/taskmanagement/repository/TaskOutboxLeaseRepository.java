@@ -0,0 +1,29 @@
+package com.example.taskmanagement.repository;
+
+import com.example.taskmanagement.entity.TaskOutboxLease;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface TaskOutboxLeaseRepository extends JpaRepository<TaskOutboxLease, String> {
+
+    /**
+     * Renews the lease for its holder, or takes it over once expired, in one conditional UPDATE.
+     *
+     * @return 1 if {@code owner} now holds the lease, 0 if another instance does or the lease row is missing
+     */
+    @Transactional
+    @Modifying
+    @Query("update TaskOutboxLease l set l.owner = :owner, l.expiresAt = :until "
+            + "where l.name = :name and (l.owner = :owner or l.expiresAt < :now)")
+    int tryAcquire(@Param("name") String name,
+                   @Param("owner") String owner,
+                   @Param("now") LocalDateTime now,
+                   @Param("until") LocalDateTime until);
+}
@@ -0,0 +1,29 @@
+package com.example.taskmanagement.repository;
+
+import com.example.taskmanagement.entity.TaskOutboxEvent;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface TaskOutboxRepository extends JpaRepository<TaskOutboxEvent, Long> {
+
+    /**
+     * Events in sequence order, skipping every event of a user whose oldest event is backing off after a
+     * failed delivery. A user's events commit in sequence order, so any prefix of this order holds each
+     * user's events without gaps, and each user's events are delivered in commit order.
+     */
+    @Query("select o from TaskOutboxEvent o "
+            + "where not exists (select b.id from TaskOutboxEvent b where b.nextAttemptAt > :now "
+            + "and (b.userId = o.userId or (b.userId is null and o.userId is null))) "
+            + "order by o.sequenceNumber, o.id")
+    List<TaskOutboxEvent> findDeliverable(@Param("now") LocalDateTime now, Limit limit);
+
+    @Query("select count(o) as count, min(o.createdAt) as oldestCreatedAt from TaskOutboxEvent o")
+    TaskOutboxBacklog findBacklog();
+}
@@ -0,0 +1,22 @@
+package com.example.taskmanagement.repository;
+
+import com.example.taskmanagement.entity.TaskOutboxSequence;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface TaskOutboxSequenceRepository extends JpaRepository<TaskOutboxSequence, Long> {
+
+    /**
+     * Locks one user's sequence row, blocking other writers of that user's events until the caller commits.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from TaskOutboxSequence s where s.userId = :userId")
+    Optional<TaskOutboxSequence> lockByUserId(@Param("userId") Long userId);
+}
@@ -0,0 +1,8 @@
+package com.example.taskmanagement.repository;
+
+public interface TaskPriorityCount {
+
+    Integer getPriority();
+
+    Long getCount();
+}
@@ -1,15 +1,129 @@
 package com.example.taskmanagement.repository;
 
+import com.example.taskmanagement.dto.TaskResponse;
 import com.example.taskmanagement.entity.Task;
 import com.example.taskmanagement.entity.Task.TaskStatus;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long> {
-    Page<Task> findByUserId(Long userId, Pageable pageable);
-    Page<Task> findByUserIdAndStatus(Long userId, TaskStatus status, Pageable pageable);
-    Page<Task> findByStatus(TaskStatus status, Pageable pageable);
-}
\ No newline at end of file
+public interface TaskRepository extends JpaRepository<Task, Long>, TaskRepositoryCustom {
+
+    /**
+     * Selects list rows straight into {@link TaskResponse}, joining the owner's username in the
+     * same statement instead of loading entities and their lazy users one by one.
+     */
+    String SELECT_TASK_RESPONSE = "select new com.example.taskmanagement.dto.TaskResponse("
+            + "t.id, t.title, t.description, t.status, t.priority, t.deadline, "
+            + "u.id, u.username, t.createdAt, t.updatedAt, t.version) "
+            + "from Task t join t.user u ";
+
+    @Query(value = SELECT_TASK_RESPONSE + "where u.id = :userId",
+            countQuery = "select count(t) from Task t where t.user.id = :userId")
+    Page<TaskResponse> findResponsesByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    @Query(value = SELECT_TASK_RESPONSE + "where u.id = :userId and t.status = :status",
+            countQuery = "select count(t) from Task t where t.user.id = :userId and t.status = :status")
+    Page<TaskResponse> findResponsesByUserIdAndStatus(@Param("userId") Long userId,
+                                                      @Param("status") TaskStatus status,
+                                                      Pageable pageable);
+
+    @Query(value = SELECT_TASK_RESPONSE + "where t.status = :status",
+            countQuery = "select count(t) from Task t where t.status = :status")
+    Page<TaskResponse> findResponsesByStatus(@Param("status") TaskStatus status, Pageable pageable);
+
+    @Query(value = SELECT_TASK_RESPONSE,
+            countQuery = "select count(t) from Task t")
+    Page<TaskResponse> findAllResponses(Pageable pageable);
+
+    @Query(SELECT_TASK_RESPONSE + "where t.id = :id")
+    Optional<TaskResponse> findResponseById(@Param("id") Long id);
+
+    @Query(SELECT_TASK_RESPONSE + "where t.id in :ids")
+    List<TaskResponse> findResponsesByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Tasks strictly after the (updatedAt, id) position, in that order; the delta sync read.
+     *
+     * @param userId owner to scope to, or {@code null} for all users
+     */
+    @Query(SELECT_TASK_RESPONSE + "where (:userId is null or u.id = :userId) "
+            + "and (t.updatedAt > :after or (t.updatedAt = :after and t.id > :afterId)) "
+            + "order by t.updatedAt, t.id")
+    List<TaskResponse> findChangedAfter(@Param("userId") Long userId,
+                                        @Param("after") LocalDateTime after,
+                                        @Param("afterId") Long afterId,
+                                        Limit limit);
+
+    /**
+     * Row count and latest update in a listing's scope; the list ETag is derived from these instead
+     * of the page itself. {@code null} filters are ignored.
+     */
+    @Query("select count(t) as count, max(t.updatedAt) as lastUpdatedAt from Task t "
+            + "where (:userId is null or t.user.id = :userId) "
+            + "and (:status is null or t.status = :status)")
+    TaskListVersion findListVersion(@Param("userId") Long userId, @Param("status") TaskStatus status);
+
+    /**
+     * Set-based status transition; {@code null} filters are ignored. Rows already in
+     * {@code newStatus} are left untouched.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Task t set t.status = :newStatus, t.updatedAt = :now, t.version = t.version + 1 "
+            + "where t.status <> :newStatus "
+            + "and (:userId is null or t.user.id = :userId) "
+            + "and (:status is null or t.status = :status) "
+            + "and (:deadlineBefore is null or t.deadline < :deadlineBefore)")
+    int updateStatusWhere(@Param("newStatus") TaskStatus newStatus,
+                          @Param("userId") Long userId,
+                          @Param("status") TaskStatus status,
+                          @Param("deadlineBefore") LocalDateTime deadlineBefore,
+                          @Param("now") LocalDateTime now);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Task t set t.status = :newStatus, t.updatedAt = :now, t.version = t.version + 1 "
+            + "where t.id in :ids and t.status <> :newStatus "
+            + "and (:userId is null or t.user.id = :userId) "
+            + "and (:status is null or t.status = :status) "
+            + "and (:deadlineBefore is null or t.deadline < :deadlineBefore)")
+    int updateStatusWhereIdIn(@Param("ids") Collection<Long> ids,
+                              @Param("newStatus") TaskStatus newStatus,
+                              @Param("userId") Long userId,
+                              @Param("status") TaskStatus status,
+                              @Param("deadlineBefore") LocalDateTime deadlineBefore,
+                              @Param("now") LocalDateTime now);
+
+    @Query("select t.status as status, count(t) as count, "
+            + "sum(case when t.deadline < :now then 1 else 0 end) as overdue "
+            + "from Task t where t.user.id = :userId group by t.status")
+    List<TaskUserStatusCount> countByStatusForUser(@Param("userId") Long userId, @Param("now") LocalDateTime now);
+
+    /**
+     * The next chunk of a user's tasks for the deletion job, lowest id first.
+     */
+    @Query("select t.id as id, t.status as status from Task t where t.user.id = :userId order by t.id")
+    List<TaskIdStatus> findIdStatusByUserId(@Param("userId") Long userId, Limit limit);
+
+    long countByUserId(Long userId);
+
+    @Query("select t.priority as priority, count(t) as count from Task t "
+            + "where t.user.id = :userId group by t.priority order by t.priority")
+    List<TaskPriorityCount> countByPriorityForUser(@Param("userId") Long userId);
+
+    @Query("select t.status as status, count(t) as count from Task t group by t.status")
+    List<TaskStatusCount> countByStatus();
+
+    @Query("select count(t) from Task t where t.status in :statuses and t.deadline < :now")
+    long countOverdue(@Param("statuses") Collection<TaskStatus> statuses, @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,45 @@
+package com.example.taskmanagement.repository;
+
+import com.example.taskmanagement.dto.TaskResponse;
+import com.example.taskmanagement.entity.Task.TaskStatus;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+public interface TaskRepositoryCustom {
+
+    /**
+     * Keyset (seek) query: returns up to {@code limit} task rows ordered by {@code sortField} then id,
+     * strictly after the given position. No offset scan and no count query.
+     *
+     * @param userId     owner to scope to, or {@code null} for all users
+     * @param status     status filter, or {@code null} for any status
+     * @param afterValue sort value of the last row already seen (may be {@code null} for nullable fields)
+     * @param afterId    id of the last row already seen, or {@code null} for the first page
+     */
+    List<TaskResponse> findPageAfter(Long userId, TaskStatus status, TaskSortField sortField, boolean ascending,
+                                     Object afterValue, Long afterId, int limit);
+
+    /**
+     * Relevance-ranked full-text search over title and description. Uses the MySQL FULLTEXT index
+     * when running on MySQL and a LIKE-based fallback elsewhere (tests on H2).
+     *
+     * @param userId owner to scope to, or {@code null} for all users
+     * @param status status filter, or {@code null} for any status
+     * @param terms  lower-case alphanumeric search terms, all of which must match
+     * @return matching task ids, most relevant first
+     */
+    List<Long> searchIds(Long userId, TaskStatus status, List<String> terms, int limit);
+
+    /**
+     * Forward-only cursor over a user's tasks for export. Rows are DTOs, so nothing accumulates in the
+     * persistence context; must be consumed inside a read-only transaction and closed. On MySQL rows
+     * are streamed one at a time, and the connection can't run other statements until the stream is closed.
+     */
+    Stream<TaskResponse> streamResponsesByUserId(Long userId);
+
+    /**
+     * Every task, streamed like {@link #streamResponsesByUserId}.
+     */
+    Stream<TaskResponse> streamAllResponses();
+}
@@ -0,0 +1,212 @@
+package com.example.taskmanagement.repository;
+
+import com.example.taskmanagement.dto.TaskResponse;
+import com.example.taskmanagement.entity.Task;
+import com.example.taskmanagement.entity.Task.TaskStatus;
+import com.example.taskmanagement.entity.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
+
+public class TaskRepositoryImpl implements TaskRepositoryCustom {
+
+    private static final String FULL_TEXT_MATCH =
+            "match(t.title, t.description) against (:query in boolean mode)";
+
+    // Connector/J streams rows one at a time for this fetch size instead of buffering the whole result;
+    // unlike useCursorFetch on the URL, it affects only the queries that ask for it
+    private static final int MYSQL_STREAMING_FETCH_SIZE = Integer.MIN_VALUE;
+    private static final int EXPORT_FETCH_SIZE = 1000;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private volatile Boolean mySql;
+
+    @Override
+    public List<TaskResponse> findPageAfter(Long userId, TaskStatus status, TaskSortField sortField,
+                                            boolean ascending, Object afterValue, Long afterId, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TaskResponse> query = cb.createQuery(TaskResponse.class);
+        Root<Task> task = query.from(Task.class);
+        Join<Task, User> user = task.join("user");
+
+        Path<Comparable<Object>> sortPath = task.get(sortField.getProperty());
+        Path<Long> idPath = task.get("id");
+
+        List<Predicate> predicates = new ArrayList<>();
+        if (userId != null) {
+            predicates.add(cb.equal(user.get("id"), userId));
+        }
+        if (status != null) {
+            predicates.add(cb.equal(task.get("status"), status));
+        }
+        if (afterId != null) {
+            predicates.add(seekPredicate(cb, sortPath, idPath, sortField, ascending, afterValue, afterId));
+        }
+
+        query.select(cb.construct(TaskResponse.class,
+                        task.get("id"), task.get("title"), task.get("description"), task.get("status"),
+                        task.get("priority"), task.get("deadline"), user.get("id"), user.get("username"),
+                        task.get("createdAt"), task.get("updatedAt"), task.get("version")))
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(ascending ? cb.asc(sortPath) : cb.desc(sortPath),
+                        ascending ? cb.asc(idPath) : cb.desc(idPath));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public List<Long> searchIds(Long userId, TaskStatus status, List<String> terms, int limit) {
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+        return isMySql()
+                ? fullTextSearchIds(userId, status, terms, limit)
+                : likeSearchIds(userId, status, terms, limit);
+    }
+
+    /**
+     * Boolean-mode MATCH with every term required and prefix-matched; rows are ranked by the
+     * InnoDB relevance score, which the optimizer reads from the FULLTEXT index.
+     */
+    @SuppressWarnings("unchecked")
+    private List<Long> fullTextSearchIds(Long userId, TaskStatus status, List<String> terms, int limit) {
+        String query = terms.stream()
+                .map(term -> "+" + term + "*")
+                .collect(Collectors.joining(" "));
+
+        StringBuilder sql = new StringBuilder("select t.id from tasks t where ").append(FULL_TEXT_MATCH);
+        if (userId != null) {
+            sql.append(" and t.user_id = :userId");
+        }
+        if (status != null) {
+            sql.append(" and t.status = :status");
+        }
+        sql.append(" order by ").append(FULL_TEXT_MATCH).append(" desc, t.id desc");
+
+        Query nativeQuery = entityManager.createNativeQuery(sql.toString(), Long.class)
+                .setParameter("query", query)
+                .setMaxResults(limit);
+        if (userId != null) {
+            nativeQuery.setParameter("userId", userId);
+        }
+        if (status != null) {
+            nativeQuery.setParameter("status", status.name());
+        }
+        return nativeQuery.getResultList();
+    }
+
+    /**
+     * Portable fallback for databases without a FULLTEXT index. Scores title hits above description
+     * hits; it scans the table, so it is only meant for tests and small datasets.
+     */
+    private List<Long> likeSearchIds(Long userId, TaskStatus status, List<String> terms, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Task> task = query.from(Task.class);
+
+        Expression<String> title = cb.lower(task.get("title"));
+        Expression<String> description = cb.lower(task.get("description"));
+
+        List<Predicate> predicates = new ArrayList<>();
+        if (userId != null) {
+            predicates.add(cb.equal(task.get("user").get("id"), userId));
+        }
+        if (status != null) {
+            predicates.add(cb.equal(task.get("status"), status));
+        }
+
+        Expression<Integer> score = cb.literal(0);
+        for (String term : terms) {
+            String pattern = "%" + term + "%";
+            predicates.add(cb.or(cb.like(title, pattern), cb.like(description, pattern)));
+            score = cb.sum(score, cb.<Integer>selectCase().when(cb.like(title, pattern), 2).otherwise(0));
+            score = cb.sum(score, cb.<Integer>selectCase().when(cb.like(description, pattern), 1).otherwise(0));
+        }
+
+        Path<Long> idPath = task.get("id");
+        query.select(idPath)
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(cb.desc(score), cb.desc(idPath));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public Stream<TaskResponse> streamResponsesByUserId(Long userId) {
+        return stream(entityManager.createQuery(
+                        TaskRepository.SELECT_TASK_RESPONSE + "where u.id = :userId order by t.id", TaskResponse.class)
+                .setParameter("userId", userId));
+    }
+
+    @Override
+    public Stream<TaskResponse> streamAllResponses() {
+        return stream(entityManager.createQuery(
+                TaskRepository.SELECT_TASK_RESPONSE + "order by t.id", TaskResponse.class));
+    }
+
+    private Stream<TaskResponse> stream(TypedQuery<TaskResponse> query) {
+        return query.setHint(HINT_FETCH_SIZE, isMySql() ? MYSQL_STREAMING_FETCH_SIZE : EXPORT_FETCH_SIZE)
+                .setHint(HINT_READ_ONLY, true)
+                .setHint(HINT_CACHEABLE, false)
+                .getResultStream();
+    }
+
+    private boolean isMySql() {
+        if (mySql == null) {
+            mySql = entityManager.getEntityManagerFactory()
+                    .unwrap(SessionFactoryImplementor.class)
+                    .getJdbcServices()
+                    .getDialect() instanceof MySQLDialect;
+        }
+        return mySql;
+    }
+
+    /**
+     * Rows strictly after (afterValue, afterId) in the requested order. NULLs of a nullable key sort
+     * as the lowest value, matching the default NULL ordering of both MySQL and H2.
+     */
+    @SuppressWarnings("unchecked")
+    private Predicate seekPredicate(CriteriaBuilder cb, Path<Comparable<Object>> sortPath, Path<Long> idPath,
+                                    TaskSortField sortField, boolean ascending, Object afterValue, Long afterId) {
+        if (afterValue == null) {
+            Predicate inNullRun = cb.and(cb.isNull(sortPath),
+                    ascending ? cb.greaterThan(idPath, afterId) : cb.lessThan(idPath, afterId));
+            return ascending ? cb.or(inNullRun, cb.isNotNull(sortPath)) : inNullRun;
+        }
+
+        Comparable<Object> value = (Comparable<Object>) afterValue;
+        Predicate beyondValue = ascending ? cb.greaterThan(sortPath, value) : cb.lessThan(sortPath, value);
+        Predicate sameValue = cb.and(cb.equal(sortPath, value),
+                ascending ? cb.greaterThan(idPath, afterId) : cb.lessThan(idPath, afterId));
+
+        if (!ascending && sortField.isNullable()) {
+            return cb.or(beyondValue, sameValue, cb.isNull(sortPath));
+        }
+        return cb.or(beyondValue, sameValue);
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.taskmanagement.repository;
+
+import com.example.taskmanagement.exception.BadRequestException;
+
+import java.time.LocalDateTime;
+
+/**
+ * Sort keys supported by keyset pagination, each backed by a {@code (user_id, key, id)} index.
+ */
+public enum TaskSortField {
+    CREATED_AT("createdAt", false),
+    PRIORITY("priority", false),
+    DEADLINE("deadline", true);
+
+    private final String property;
+    private final boolean nullable;
+
+    TaskSortField(String property, boolean nullable) {
+        this.property = property;
+        this.nullable = nullable;
+    }
+
+    public String getProperty() {
+        return property;
+    }
+
+    public boolean isNullable() {
+        return nullable;
+    }
+
+    public Object parseValue(String value) {
+        if (value == null) {
+            return null;
+        }
+        return this == PRIORITY ? Integer.valueOf(value) : LocalDateTime.parse(value);
+    }
+
+    public static TaskSortField fromProperty(String property) {
+        for (TaskSortField field : values()) {
+            if (field.property.equals(property)) {
+                return field;
+            }
+        }
+        throw new BadRequestException("Unsupported sort field: " + property);
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.taskmanagement.repository;
+
+import com.example.taskmanagement.entity.Task.TaskStatus;
+
+public interface TaskStatusCount {
+
+    TaskStatus getStatus();
+
+    Long getCount();
+}
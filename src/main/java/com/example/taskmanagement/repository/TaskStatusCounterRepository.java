@@ -0,0 +1,32 @@
+package com.example.taskmanagement.repository;
+
+import com.example.taskmanagement.entity.Task.TaskStatus;
+import com.example.taskmanagement.entity.TaskStatusCounter;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface TaskStatusCounterRepository extends JpaRepository<TaskStatusCounter, TaskStatusCounter.Key> {
+
+    @Modifying
+    @Query("update TaskStatusCounter c set c.taskCount = c.taskCount + :delta "
+            + "where c.id.status = :status and c.id.slot = :slot")
+    int increment(@Param("status") TaskStatus status, @Param("slot") int slot, @Param("delta") long delta);
+
+    /**
+     * Locks one status's counter rows, blocking writers that would change them until the caller commits.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select c from TaskStatusCounter c where c.id.status = :status")
+    List<TaskStatusCounter> lockByStatus(@Param("status") TaskStatus status);
+
+    @Query("select c.id.status as status, sum(c.taskCount) as count from TaskStatusCounter c group by c.id.status")
+    List<TaskStatusCount> sumByStatus();
+}
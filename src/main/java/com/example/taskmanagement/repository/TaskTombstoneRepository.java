@@ -0,0 +1,34 @@
+package com.example.taskmanagement.repository;
+
+import com.example.taskmanagement.entity.TaskTombstone;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface TaskTombstoneRepository extends JpaRepository<TaskTombstone, Long> {
+
+    /**
+     * Tombstones strictly after the (deletedAt, id) position, in that order.
+     *
+     * @param userId owner to scope to, or {@code null} for all users
+     */
+    @Query("select t from TaskTombstone t "
+            + "where (:userId is null or t.userId = :userId) "
+            + "and (t.deletedAt > :after or (t.deletedAt = :after and t.id > :afterId)) "
+            + "order by t.deletedAt, t.id")
+    List<TaskTombstone> findDeletedAfter(@Param("userId") Long userId,
+                                         @Param("after") LocalDateTime after,
+                                         @Param("afterId") Long afterId,
+                                         Limit limit);
+
+    @Modifying
+    @Query("delete from TaskTombstone t where t.deletedAt < :cutoff")
+    int deleteOlderThan(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -0,0 +1,6 @@
+package com.example.taskmanagement.repository;
+
+public interface TaskUserStatusCount extends TaskStatusCount {
+
+    Long getOverdue();
+}
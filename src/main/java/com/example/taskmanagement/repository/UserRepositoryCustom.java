@@ -0,0 +1,13 @@
+package com.example.taskmanagement.repository;
+
+import com.example.taskmanagement.entity.User;
+
+import java.util.Optional;
+
+public interface UserRepositoryCustom {
+
+    /**
+     * Natural-id lookup, so a cached user resolves without touching the database.
+     */
+    Optional<User> findByUsername(String username);
+}
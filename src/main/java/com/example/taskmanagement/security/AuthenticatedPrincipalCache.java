@@ -0,0 +1,126 @@
+package com.example.taskmanagement.security;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+/**
+ * Bounded, TTL-evicting cache of resolved principals keyed by JWT subject (username),
+ * so authenticated requests don't reload the user and its roles on every call.
+ * Also tracks revoked user ids for tokens whose principal is built from claims alone.
+ */
+@Component
+@Slf4j
+public class AuthenticatedPrincipalCache {
+
+    private final AsyncCache<String, UserDetails> cache;
+
+    private final Cache<Long, Boolean> revokedUserIds;
+
+    public AuthenticatedPrincipalCache(
+            @Value("${jwt.principal-cache.maximum-size:10000}") long maximumSize,
+            @Value("${jwt.principal-cache.ttl:5m}") Duration ttl,
+            @Value("${jwt.expiration}") long jwtExpiration,
+            MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "jwt.principal");
+        // A revocation only needs to outlive the tokens issued before it; bounded like the principals
+        this.revokedUserIds = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofMillis(jwtExpiration))
+                .build();
+    }
+
+    /**
+     * Loads on a miss outside the cache's compute lock: {@code Cache.get(key, loader)} runs the loader
+     * inside a map bin lock, which would pin a virtual thread for the whole user query. Instead a miss
+     * installs an incomplete future and loads on the calling thread while concurrent misses wait on it.
+     * An invalidation removes the future, so a load that started before it is returned to its caller
+     * but never cached.
+     */
+    public UserDetails get(String username, Function<String, UserDetails> loader) {
+        CompletableFuture<UserDetails> cached = cache.getIfPresent(username);
+        if (cached == null) {
+            CompletableFuture<UserDetails> loading = new CompletableFuture<>();
+            cached = cache.asMap().putIfAbsent(username, loading);
+            if (cached == null) {
+                return load(username, loader, loading);
+            }
+        }
+        try {
+            return cached.join();
+        } catch (CompletionException e) {
+            // Another request's load failed; try on our own rather than share its error
+            return loader.apply(username);
+        }
+    }
+
+    /**
+     * Evicts the principal, deferring until commit when called inside a transaction so a
+     * concurrent request cannot re-cache the pre-commit state.
+     */
+    public void invalidate(String username) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evict(username);
+                }
+            });
+        } else {
+            evict(username);
+        }
+    }
+
+    public void revoke(Long userId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    revokedUserIds.put(userId, Boolean.TRUE);
+                }
+            });
+        } else {
+            revokedUserIds.put(userId, Boolean.TRUE);
+        }
+    }
+
+    public boolean isRevoked(Long userId) {
+        return revokedUserIds.getIfPresent(userId) != null;
+    }
+
+    private UserDetails load(String username, Function<String, UserDetails> loader,
+                             CompletableFuture<UserDetails> loading) {
+        try {
+            UserDetails loaded = loader.apply(username);
+            loading.complete(loaded);
+            return loaded;
+        } catch (RuntimeException e) {
+            // Caffeine drops futures that complete exceptionally
+            loading.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private void evict(String username) {
+        log.debug("Evicting cached principal: {}", username);
+        cache.synchronous().invalidate(username);
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.taskmanagement.security;
+
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * Lightweight principal carrying the user id alongside the username and authorities,
+ * so services can identify the caller without looking the user up again.
+ */
+@Getter
+public class AuthenticatedUser implements UserDetails {
+
+    private final Long id;
+
+    private final String username;
+
+    private final String password;
+
+    private final Set<GrantedAuthority> authorities;
+
+    private final boolean enabled;
+
+    private final boolean admin;
+
+    public AuthenticatedUser(Long id, String username, String password,
+                             Set<GrantedAuthority> authorities, boolean enabled) {
+        this.id = id;
+        this.username = username;
+        this.password = password;
+        this.authorities = Set.copyOf(authorities);
+        this.enabled = enabled;
+        this.admin = authorities.stream()
+                .anyMatch(auth -> auth.getAuthority().equals("ROLE_ADMIN"));
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    @Override
+    public boolean isAccountNonExpired() {
+        return enabled;
+    }
+
+    @Override
+    public boolean isAccountNonLocked() {
+        return enabled;
+    }
+
+    @Override
+    public boolean isCredentialsNonExpired() {
+        return true;
+    }
+}
@@ -1,11 +1,16 @@
 package com.example.taskmanagement.security;
 
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -15,6 +20,9 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 @Component
 @RequiredArgsConstructor
@@ -23,19 +31,45 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtils jwtUtils;
     private final UserDetailsServiceImpl userDetailsService;
+    private final AuthenticatedPrincipalCache principalCache;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${jwt.claims-principal.enabled:false}")
+    private boolean claimsPrincipalEnabled;
+
+    private final Map<Outcome, Timer> timers = new EnumMap<>(Outcome.class);
+
+    private enum Outcome {
+        AUTHENTICATED, ANONYMOUS, REJECTED, ERROR
+    }
+
+    @PostConstruct
+    void initMetrics() {
+        for (Outcome outcome : Outcome.values()) {
+            timers.put(outcome, Timer.builder("auth.jwt.filter")
+                    .description("Token parsing and principal resolution, excluding the rest of the chain")
+                    .tag("outcome", outcome.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
                                     HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
+        long start = System.nanoTime();
+        Outcome outcome = Outcome.ANONYMOUS;
         try {
             String jwt = parseJwt(request);
+            if (jwt != null) {
+                outcome = Outcome.REJECTED;
+            }
 
-            if (jwt != null && jwtUtils.validateJwtToken(jwt)) {
-                String username = jwtUtils.getUsernameFromJwtToken(jwt);
+            Claims claims = jwt != null ? jwtUtils.parseClaims(jwt) : null;
 
-                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+            UserDetails userDetails = claims != null ? resolvePrincipal(claims) : null;
 
+            if (userDetails != null) {
                 UsernamePasswordAuthenticationToken authentication =
                         new UsernamePasswordAuthenticationToken(
                                 userDetails,
@@ -48,14 +82,39 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 );
 
                 SecurityContextHolder.getContext().setAuthentication(authentication);
+                outcome = Outcome.AUTHENTICATED;
             }
         } catch (Exception e) {
+            outcome = Outcome.ERROR;
             log.error("Cannot set user authentication: {}", e.getMessage());
         }
+        timers.get(outcome).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
 
         filterChain.doFilter(request, response);
     }
 
+    private UserDetails resolvePrincipal(Claims claims) {
+        UserDetails userDetails = null;
+        if (claimsPrincipalEnabled) {
+            userDetails = jwtUtils.getPrincipalFromClaims(claims);
+        }
+        if (userDetails == null) {
+            userDetails = principalCache.get(claims.getSubject(), userDetailsService::loadUserByUsername);
+        }
+
+        if (userDetails instanceof AuthenticatedUser user && principalCache.isRevoked(user.getId())) {
+            log.warn("Rejecting token for revoked user: {}", user.getUsername());
+            return null;
+        }
+        // Deactivated users, including those still being purged, are rejected on every instance,
+        // not only where the revocation was recorded
+        if (!userDetails.isEnabled()) {
+            log.warn("Rejecting token for disabled user: {}", userDetails.getUsername());
+            return null;
+        }
+        return userDetails;
+    }
+
     private String parseJwt(HttpServletRequest request) {
         String headerAuth = request.getHeader("Authorization");
 
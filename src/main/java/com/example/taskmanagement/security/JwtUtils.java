@@ -2,56 +2,107 @@ package com.example.taskmanagement.security;
 
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.util.Collection;
 import java.util.Date;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Component
 @Slf4j
 public class JwtUtils {
 
+    private static final String USER_ID_CLAIM = "uid";
+    private static final String ROLES_CLAIM = "roles";
+
     @Value("${jwt.secret}")
     private String jwtSecret;
 
     @Value("${jwt.expiration}")
     private long jwtExpiration;
 
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(jwtSecret.getBytes());
+    private SecretKey signingKey;
+
+    private JwtParser jwtParser;
+
+    @PostConstruct
+    void init() {
+        // The key and parser are immutable and thread-safe, so build them once instead of per call
+        signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes());
+        jwtParser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
     }
 
     public String generateJwtToken(Authentication authentication) {
         UserDetails userDetails = (UserDetails) authentication.getPrincipal();
 
-        return Jwts.builder()
-                .setSubject(userDetails.getUsername())
+        JwtBuilder builder = Jwts.builder()
+                .setSubject(userDetails.getUsername());
+
+        if (userDetails instanceof AuthenticatedUser user) {
+            List<String> roles = user.getAuthorities().stream()
+                    .map(GrantedAuthority::getAuthority)
+                    .sorted()
+                    .toList();
+            builder.claim(USER_ID_CLAIM, user.getId())
+                    .claim(ROLES_CLAIM, roles);
+        }
+
+        return builder
                 .setIssuedAt(new Date())
                 .setExpiration(new Date((new Date()).getTime() + jwtExpiration))
-                .signWith(getSigningKey(), SignatureAlgorithm.HS512)
+                .signWith(signingKey, SignatureAlgorithm.HS512)
                 .compact();
     }
 
     public String getUsernameFromJwtToken(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
+        return jwtParser.parseClaimsJws(token)
                 .getBody()
                 .getSubject();
     }
 
     public boolean validateJwtToken(String authToken) {
+        return parseClaims(authToken) != null;
+    }
+
+    /**
+     * Builds a principal from the signed user id and roles claims without touching the database.
+     *
+     * @return the principal, or {@code null} if the token predates these claims
+     */
+    public AuthenticatedUser getPrincipalFromClaims(Claims claims) {
+        Number userId = claims.get(USER_ID_CLAIM, Number.class);
+        Object roles = claims.get(ROLES_CLAIM);
+        if (userId == null || !(roles instanceof Collection<?> roleNames)) {
+            return null;
+        }
+
+        Set<GrantedAuthority> authorities = roleNames.stream()
+                .map(role -> new SimpleGrantedAuthority(role.toString()))
+                .collect(Collectors.toSet());
+
+        return new AuthenticatedUser(userId.longValue(), claims.getSubject(), null, authorities, true);
+    }
+
+    /**
+     * Verifies the token and returns its claims in a single parse.
+     *
+     * @return the token claims, or {@code null} if the token is invalid
+     */
+    public Claims parseClaims(String authToken) {
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(getSigningKey())
-                    .build()
-                    .parseClaimsJws(authToken);
-            return true;
+            return jwtParser.parseClaimsJws(authToken).getBody();
         } catch (MalformedJwtException e) {
             log.error("Invalid JWT token: {}", e.getMessage());
         } catch (ExpiredJwtException e) {
@@ -60,7 +111,9 @@ public class JwtUtils {
             log.error("JWT token is unsupported: {}", e.getMessage());
         } catch (IllegalArgumentException e) {
             log.error("JWT claims string is empty: {}", e.getMessage());
+        } catch (JwtException e) {
+            log.error("JWT signature is invalid: {}", e.getMessage());
         }
-        return false;
+        return null;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,193 @@
+package com.example.taskmanagement.security;
+
+import com.example.taskmanagement.dto.ErrorResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throttles API requests with token buckets, placed right after {@link JwtAuthenticationFilter} so
+ * authenticated callers are limited per user and everyone else per client IP. Each rule in
+ * {@code rate-limit.rules} reads {@code key:pattern=capacity/period}, e.g. {@code ip:/api/auth/**=10/1m}
+ * allows bursts of 10 per IP refilled over a minute; the first matching rule applies, and a request
+ * matching none is not limited.
+ *
+ * <p>A bucket left idle for its period is full again, so it is evicted then at no loss of state.
+ * Buckets are local to each instance.
+ */
+@Component
+@Slf4j
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final ObjectMapper objectMapper;
+
+    private final boolean enabled;
+
+    private final List<Rule> rules = new ArrayList<>();
+
+    public RateLimitFilter(
+            ObjectMapper objectMapper,
+            @Value("${rate-limit.enabled:true}") boolean enabled,
+            @Value("${rate-limit.rules:ip:/api/auth/**=10/1m,user:/api/**=100/10s}") List<String> rules,
+            @Value("${rate-limit.max-buckets:100000}") long maxBuckets,
+            MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        for (String spec : rules) {
+            this.rules.add(Rule.parse(spec.trim(), maxBuckets, meterRegistry));
+        }
+        if (enabled) {
+            log.info("Rate limit rules: {}", rules);
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        PathContainer path = PathContainer.parsePath(
+                request.getRequestURI().substring(request.getContextPath().length()));
+        Rule rule = null;
+        for (Rule candidate : rules) {
+            if (candidate.pattern.matches(path)) {
+                rule = candidate;
+                break;
+            }
+        }
+
+        long wait = rule != null ? rule.tryConsume(clientKey(rule, request)) : 0;
+        if (wait > 0) {
+            reject(request, response, rule, wait);
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private static String clientKey(Rule rule, HttpServletRequest request) {
+        if (rule.perUser) {
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            if (authentication != null && authentication.isAuthenticated()
+                    && !(authentication instanceof AnonymousAuthenticationToken)) {
+                return authentication.getPrincipal() instanceof AuthenticatedUser user
+                        ? "user:" + user.getId()
+                        : "user:" + authentication.getName();
+            }
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, Rule rule, long waitNanos)
+            throws IOException {
+        rule.rejected.increment();
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+        log.debug("Rate limit {} exceeded for {} {}", rule.spec, request.getMethod(), request.getRequestURI());
+
+        ErrorResponse error = new ErrorResponse(
+                LocalDateTime.now(),
+                HttpStatus.TOO_MANY_REQUESTS.value(),
+                "Too Many Requests",
+                "Rate limit exceeded, retry in " + retryAfterSeconds + "s",
+                request.getRequestURI()
+        );
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), error);
+    }
+
+    private static final class Rule {
+
+        private final String spec;
+
+        private final PathPattern pattern;
+
+        private final boolean perUser;
+
+        private final long intervalNanos;
+
+        private final long periodNanos;
+
+        private final Cache<String, TokenBucket> buckets;
+
+        private final Counter rejected;
+
+        private Rule(String spec, PathPattern pattern, boolean perUser, int capacity, Duration period,
+                     long maxBuckets, MeterRegistry meterRegistry) {
+            this.spec = spec;
+            this.pattern = pattern;
+            this.perUser = perUser;
+            this.periodNanos = period.toNanos();
+            this.intervalNanos = periodNanos / capacity;
+            this.buckets = Caffeine.newBuilder()
+                    .expireAfterAccess(period)
+                    .maximumSize(maxBuckets)
+                    .build();
+            this.rejected = Counter.builder("http.ratelimit.rejected")
+                    .tag("rule", pattern.getPatternString())
+                    .description("Requests rejected with 429 by a rate limit rule")
+                    .register(meterRegistry);
+            Gauge.builder("http.ratelimit.buckets", buckets, Cache::estimatedSize)
+                    .tag("rule", pattern.getPatternString())
+                    .description("Clients currently tracked by a rate limit rule")
+                    .register(meterRegistry);
+        }
+
+        static Rule parse(String spec, long maxBuckets, MeterRegistry meterRegistry) {
+            int colon = spec.indexOf(':');
+            int equals = spec.lastIndexOf('=');
+            int slash = spec.lastIndexOf('/');
+            if (colon < 0 || equals < colon || slash < equals) {
+                throw new IllegalArgumentException("Rate limit rule must read key:pattern=capacity/period: " + spec);
+            }
+            String key = spec.substring(0, colon);
+            if (!key.equals("user") && !key.equals("ip")) {
+                throw new IllegalArgumentException("Rate limit key must be user or ip: " + spec);
+            }
+            int capacity = Integer.parseInt(spec.substring(equals + 1, slash));
+            Duration period = DurationStyle.detectAndParse(spec.substring(slash + 1));
+            if (capacity < 1 || period.isNegative() || period.isZero()) {
+                throw new IllegalArgumentException("Rate limit capacity and period must be positive: " + spec);
+            }
+            PathPattern pattern = PathPatternParser.defaultInstance.parse(spec.substring(colon + 1, equals));
+            return new Rule(spec, pattern, key.equals("user"), capacity, period, maxBuckets, meterRegistry);
+        }
+
+        long tryConsume(String key) {
+            long now = System.nanoTime();
+            return buckets.get(key, k -> new TokenBucket(now)).tryConsume(now, intervalNanos, periodNanos);
+        }
+    }
+}
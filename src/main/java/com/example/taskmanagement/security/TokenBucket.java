@@ -0,0 +1,36 @@
+package com.example.taskmanagement.security;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket held as a single timestamp (the generic cell rate algorithm): the time at which the
+ * bucket would be full again. Taking a token advances it by one refill interval with one CAS, so
+ * concurrent requests for the same key never block each other.
+ */
+final class TokenBucket {
+
+    private final AtomicLong fullAt;
+
+    TokenBucket(long now) {
+        this.fullAt = new AtomicLong(now);
+    }
+
+    /**
+     * @param intervalNanos time to refill one token
+     * @param periodNanos   time to refill the whole bucket, i.e. capacity times the interval
+     * @return 0 if a token was taken, otherwise the nanoseconds until one is available
+     */
+    long tryConsume(long now, long intervalNanos, long periodNanos) {
+        while (true) {
+            long current = fullAt.get();
+            long next = Math.max(current, now) + intervalNanos;
+            long wait = next - now - periodNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+}
@@ -28,14 +28,12 @@ public class UserDetailsServiceImpl implements UserDetailsService {
                 .map(role -> new SimpleGrantedAuthority("ROLE_" + role.name()))
                 .collect(Collectors.toSet());
 
-        return org.springframework.security.core.userdetails.User.builder()
-                .username(user.getUsername())
-                .password(user.getPassword())
-                .authorities(authorities)
-                .accountExpired(!user.getActive())
-                .accountLocked(!user.getActive())
-                .credentialsExpired(false)
-                .disabled(!user.getActive())
-                .build();
+        return new AuthenticatedUser(
+                user.getId(),
+                user.getUsername(),
+                user.getPassword(),
+                authorities,
+                user.getActive()
+        );
     }
 }
\ No newline at end of file
@@ -0,0 +1,30 @@
+package com.example.taskmanagement.service;
+
+import com.example.taskmanagement.dto.TaskEventMessage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Hands outbox events to in-process {@code @EventListener}s of {@link TaskEventMessage}. Unlike
+ * listening for {@code TaskEvent} directly, these only ever see committed changes, and a listener
+ * that throws gets the message again.
+ */
+@Component
+@RequiredArgsConstructor
+public class ApplicationTaskEventSink implements TaskEventSink {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public String getName() {
+        return "application";
+    }
+
+    @Override
+    public void deliver(List<TaskEventMessage> messages) {
+        messages.forEach(eventPublisher::publishEvent);
+    }
+}
@@ -0,0 +1,393 @@
+package com.example.taskmanagement.service;
+
+import com.example.taskmanagement.dto.CursorPage;
+import com.example.taskmanagement.dto.TaskEvent;
+import com.example.taskmanagement.dto.TaskResponse;
+import com.example.taskmanagement.entity.AuditEntry;
+import com.example.taskmanagement.entity.AuditEntry.Action;
+import com.example.taskmanagement.entity.AuditEntry.EntityType;
+import com.example.taskmanagement.exception.BadRequestException;
+import com.example.taskmanagement.repository.AuditEntryRepository;
+import com.example.taskmanagement.security.AuthenticatedUser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Audit trail of task and user changes that stays off the request path: callers only enqueue into
+ * a bounded lock-free queue, and one writer thread inserts the entries in batches. Entries are
+ * enqueued after the change commits, with the actor captured on the calling thread.
+ *
+ * <p>When the queue is full, {@code audit.overflow} decides: BLOCK waits up to
+ * {@code audit.block-timeout} for room and then drops, DROP drops at once, and SPILL appends to a
+ * local NDJSON file that the writer loads into the table once it is idle.
+ */
+@Component
+@Slf4j
+public class AuditLog implements DisposableBean {
+
+    public enum OverflowPolicy {
+        BLOCK, DROP, SPILL
+    }
+
+    private static final int MAX_DETAILS_LENGTH = 500;
+
+    private static final Duration REPLAY_RETRY_DELAY = Duration.ofSeconds(30);
+
+    private final AuditEntryRepository auditEntryRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final ObjectMapper objectMapper;
+
+    private final int capacity;
+
+    private final int batchSize;
+
+    private final Duration flushInterval;
+
+    private final OverflowPolicy overflowPolicy;
+
+    private final Duration blockTimeout;
+
+    private final Path spillFile;
+
+    private final Path replayFile;
+
+    private final Object spillLock = new Object();
+
+    private final Queue<AuditEntry> queue = new ConcurrentLinkedQueue<>();
+
+    private final AtomicInteger queued = new AtomicInteger();
+
+    private final Thread writer;
+
+    private volatile boolean running = true;
+
+    // Writer thread only
+    private long nextReplayNanos = System.nanoTime();
+
+    private final Counter written;
+
+    private final Counter dropped;
+
+    private final Counter spilled;
+
+    private final Counter writeFailures;
+
+    private final Timer writeTimer;
+
+    public AuditLog(
+            AuditEntryRepository auditEntryRepository,
+            PlatformTransactionManager transactionManager,
+            ObjectMapper objectMapper,
+            @Value("${audit.queue-capacity:10000}") int capacity,
+            @Value("${audit.batch-size:200}") int batchSize,
+            @Value("${audit.flush-interval:200ms}") Duration flushInterval,
+            @Value("${audit.overflow:BLOCK}") OverflowPolicy overflowPolicy,
+            @Value("${audit.block-timeout:2s}") Duration blockTimeout,
+            @Value("${audit.spill-file:audit-spill.ndjson}") Path spillFile,
+            MeterRegistry meterRegistry) {
+        this.auditEntryRepository = auditEntryRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.capacity = capacity;
+        this.batchSize = batchSize;
+        this.flushInterval = flushInterval;
+        this.overflowPolicy = overflowPolicy;
+        this.blockTimeout = blockTimeout;
+        this.spillFile = spillFile.toAbsolutePath();
+        this.replayFile = this.spillFile.resolveSibling(this.spillFile.getFileName() + ".replaying");
+
+        Gauge.builder("audit.queue.size", queued, AtomicInteger::get)
+                .description("Audit entries waiting to be written")
+                .register(meterRegistry);
+        this.written = Counter.builder("audit.written")
+                .description("Audit entries inserted")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("audit.dropped")
+                .description("Audit entries lost because the queue was full or a write failed")
+                .register(meterRegistry);
+        this.spilled = Counter.builder("audit.spilled")
+                .description("Audit entries appended to the spill file")
+                .register(meterRegistry);
+        this.writeFailures = Counter.builder("audit.write.failures")
+                .description("Audit batch inserts that failed")
+                .register(meterRegistry);
+        this.writeTimer = Timer.builder("audit.write")
+                .description("Audit batch insert latency")
+                .register(meterRegistry);
+
+        this.writer = Thread.ofPlatform().name("audit-writer").daemon().start(this::run);
+        log.info("Audit log: queue capacity {}, batch size {}, overflow {}", capacity, batchSize, overflowPolicy);
+    }
+
+    /**
+     * Records a change made by the current caller, once the surrounding transaction commits.
+     */
+    public void record(Action action, Long entityId, String details) {
+        AuditEntry entry = new AuditEntry(null, LocalDateTime.now(), null, null, action, action.getEntityType(),
+                entityId, truncate(details));
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && !(authentication instanceof AnonymousAuthenticationToken)) {
+            entry.setActor(authentication.getName());
+            if (authentication.getPrincipal() instanceof AuthenticatedUser principal) {
+                entry.setActorId(principal.getId());
+            }
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(entry);
+                }
+            });
+        } else {
+            enqueue(entry);
+        }
+    }
+
+    @EventListener
+    public void onTaskEvent(TaskEvent event) {
+        switch (event.getType()) {
+            case CREATED -> record(Action.TASK_CREATED, event.getTaskId(), describe(event.getTask()));
+            case UPDATED -> record(Action.TASK_UPDATED, event.getTaskId(), describe(event.getTask()));
+            case DELETED -> record(Action.TASK_DELETED, event.getTaskId(), null);
+            case RESYNC -> record(Action.TASKS_BULK_CHANGED, event.getUserId(), null);
+        }
+    }
+
+    /**
+     * Newest entries first, continuing from {@code cursor} (the {@code nextCursor} of the previous page).
+     */
+    public CursorPage<AuditEntry> getHistory(EntityType entityType, Long entityId, Long actorId,
+                                             String cursor, int size) {
+        Long beforeId = cursor != null ? decodeCursor(cursor) : null;
+        List<AuditEntry> entries = auditEntryRepository.findHistory(entityType, entityId, actorId, beforeId,
+                Limit.of(size + 1));
+
+        boolean hasNext = entries.size() > size;
+        if (hasNext) {
+            entries = entries.subList(0, size);
+        }
+        String nextCursor = hasNext ? String.valueOf(entries.get(entries.size() - 1).getId()) : null;
+        return new CursorPage<>(entries, entries.size(), hasNext, nextCursor);
+    }
+
+    private static Long decodeCursor(String cursor) {
+        try {
+            return Long.valueOf(cursor);
+        } catch (NumberFormatException e) {
+            throw new BadRequestException("Invalid cursor", e);
+        }
+    }
+
+    /**
+     * Stops accepting work and flushes whatever is still queued.
+     */
+    @Override
+    public void destroy() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(writer);
+        writer.join(TimeUnit.SECONDS.toMillis(10));
+    }
+
+    void enqueue(AuditEntry entry) {
+        if (reserve()) {
+            add(entry);
+            return;
+        }
+
+        switch (overflowPolicy) {
+            case DROP -> dropped.increment();
+            case SPILL -> spill(List.of(entry));
+            case BLOCK -> {
+                long deadline = System.nanoTime() + blockTimeout.toNanos();
+                do {
+                    if (System.nanoTime() - deadline > 0) {
+                        dropped.increment();
+                        log.warn("Audit queue full for {}, dropped {} entry", blockTimeout, entry.getAction());
+                        return;
+                    }
+                    // Flush now rather than at the next interval
+                    LockSupport.unpark(writer);
+                    LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(100));
+                } while (!reserve());
+                add(entry);
+            }
+        }
+    }
+
+    private boolean reserve() {
+        if (queued.incrementAndGet() > capacity) {
+            queued.decrementAndGet();
+            return false;
+        }
+        return true;
+    }
+
+    private void add(AuditEntry entry) {
+        queue.add(entry);
+        if (queued.get() >= batchSize) {
+            LockSupport.unpark(writer);
+        }
+    }
+
+    private void run() {
+        List<AuditEntry> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            AuditEntry entry;
+            while (batch.size() < batchSize && (entry = queue.poll()) != null) {
+                queued.decrementAndGet();
+                batch.add(entry);
+            }
+
+            boolean full = batch.size() == batchSize;
+            if (!batch.isEmpty()) {
+                write(batch);
+                batch.clear();
+            } else {
+                replaySpill();
+            }
+            // Let a partial batch fill up; a full queue wakes the writer early
+            if (!full && running) {
+                LockSupport.parkNanos(flushInterval.toNanos());
+            }
+        }
+    }
+
+    private void write(List<AuditEntry> batch) {
+        try {
+            writeTimer.record(() -> transactionTemplate.executeWithoutResult(
+                    status -> auditEntryRepository.saveAll(batch)));
+            written.increment(batch.size());
+        } catch (RuntimeException e) {
+            writeFailures.increment();
+            log.error("Audit batch of {} entries failed: {}", batch.size(), e.getMessage());
+            if (overflowPolicy == OverflowPolicy.SPILL) {
+                batch.forEach(entry -> entry.setId(null));
+                spill(batch);
+            } else {
+                dropped.increment(batch.size());
+            }
+        }
+    }
+
+    private void spill(List<AuditEntry> entries) {
+        try {
+            List<String> lines = new ArrayList<>(entries.size());
+            for (AuditEntry entry : entries) {
+                lines.add(objectMapper.writeValueAsString(entry));
+            }
+            synchronized (spillLock) {
+                Files.write(spillFile, lines, StandardCharsets.UTF_8,
+                        StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            }
+            spilled.increment(entries.size());
+        } catch (IOException e) {
+            dropped.increment(entries.size());
+            log.error("Could not spill {} audit entries to {}: {}", entries.size(), spillFile, e.getMessage());
+        }
+    }
+
+    /**
+     * Loads spilled entries into the table. The file is renamed first so new spills start a fresh
+     * one; a replay file left by a failed attempt or a crash is retried as is, so its entries are
+     * written at least once.
+     */
+    private void replaySpill() {
+        if (System.nanoTime() - nextReplayNanos < 0) {
+            return;
+        }
+        try {
+            synchronized (spillLock) {
+                if (!Files.exists(replayFile)) {
+                    if (!Files.exists(spillFile)) {
+                        return;
+                    }
+                    Files.move(spillFile, replayFile);
+                }
+            }
+
+            List<AuditEntry> batch = new ArrayList<>(batchSize);
+            long replayed = 0;
+            try (BufferedReader reader = Files.newBufferedReader(replayFile, StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (line.isBlank()) {
+                        continue;
+                    }
+                    AuditEntry entry = objectMapper.readValue(line, AuditEntry.class);
+                    entry.setId(null);
+                    batch.add(entry);
+                    if (batch.size() == batchSize) {
+                        replayed += insertSpilled(batch);
+                    }
+                }
+            }
+            replayed += insertSpilled(batch);
+            Files.delete(replayFile);
+            log.info("Replayed {} spilled audit entries", replayed);
+        } catch (IOException | RuntimeException e) {
+            nextReplayNanos = System.nanoTime() + REPLAY_RETRY_DELAY.toNanos();
+            log.error("Replaying spilled audit entries from {} failed, retrying in {}: {}",
+                    replayFile, REPLAY_RETRY_DELAY, e.getMessage());
+        }
+    }
+
+    private int insertSpilled(List<AuditEntry> batch) {
+        int count = batch.size();
+        if (count > 0) {
+            transactionTemplate.executeWithoutResult(status -> auditEntryRepository.saveAll(batch));
+            written.increment(count);
+            batch.clear();
+        }
+        return count;
+    }
+
+    private static String describe(TaskResponse task) {
+        if (task == null) {
+            return null;
+        }
+        return "title=" + task.getTitle() + ", status=" + task.getStatus() + ", priority=" + task.getPriority()
+                + ", deadline=" + task.getDeadline();
+    }
+
+    private static String truncate(String details) {
+        return details == null || details.length() <= MAX_DETAILS_LENGTH
+                ? details
+                : details.substring(0, MAX_DETAILS_LENGTH);
+    }
+}
@@ -3,6 +3,7 @@ package com.example.taskmanagement.service;
 import com.example.taskmanagement.dto.JwtResponse;
 import com.example.taskmanagement.dto.LoginRequest;
 import com.example.taskmanagement.dto.SignupRequest;
+import com.example.taskmanagement.entity.AuditEntry;
 import com.example.taskmanagement.entity.User;
 import com.example.taskmanagement.exception.ResourceAlreadyExistsException;
 import com.example.taskmanagement.repository.UserRepository;
@@ -17,7 +18,6 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.HashSet;
 import java.util.Set;
@@ -32,8 +32,12 @@ public class AuthService {
     private final PasswordEncoder passwordEncoder;
     private final AuthenticationManager authenticationManager;
     private final JwtUtils jwtUtils;
+    private final AuditLog auditLog;
 
-    @Transactional
+    /**
+     * Not transactional: the BCrypt hash can queue behind other logins, and no connection should be
+     * held meanwhile. The unique constraints on username and email still guard concurrent signups.
+     */
     public User register(SignupRequest request) {
         log.info("Registering new user: {}", request.getUsername());
 
@@ -54,7 +58,9 @@ public class AuthService {
         roles.add(User.Role.USER);
         user.setRoles(roles);
 
-        return userRepository.save(user);
+        User savedUser = userRepository.save(user);
+        auditLog.record(AuditEntry.Action.USER_REGISTERED, savedUser.getId(), "username=" + savedUser.getUsername());
+        return savedUser;
     }
 
     public JwtResponse login(LoginRequest request) {
@@ -0,0 +1,116 @@
+package com.example.taskmanagement.service;
+
+import com.example.taskmanagement.dto.TaskResponse;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+/**
+ * In-process {@link TaskCache}, bounded by size and TTL. Entries are futures: a miss installs an
+ * incomplete one and loads on the calling thread, outside any cache lock (no virtual-thread pinning),
+ * while concurrent readers of the same id wait on it. Evicting removes the future, so a load that
+ * finishes afterwards is returned to its caller but never cached.
+ */
+@Component
+@Slf4j
+public class CaffeineTaskCache implements TaskCache {
+
+    private final AsyncCache<Long, TaskResponse> cache;
+
+    public CaffeineTaskCache(
+            @Value("${task.cache.maximum-size:50000}") long maximumSize,
+            @Value("${task.cache.ttl:5m}") Duration ttl,
+            MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "tasks");
+    }
+
+    @Override
+    public TaskResponse get(Long id, Function<Long, TaskResponse> loader) {
+        CompletableFuture<TaskResponse> cached = cache.getIfPresent(id);
+        if (cached == null) {
+            CompletableFuture<TaskResponse> loading = new CompletableFuture<>();
+            cached = cache.asMap().putIfAbsent(id, loading);
+            if (cached == null) {
+                return load(id, loader, loading);
+            }
+        }
+        try {
+            return cached.join();
+        } catch (CompletionException e) {
+            // Another reader's load failed; try on our own rather than share its error
+            return loader.apply(id);
+        }
+    }
+
+    @Override
+    public void evict(Long id) {
+        afterCompletion(() -> cache.synchronous().invalidate(id));
+    }
+
+    @Override
+    public void evictAll(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        List<Long> keys = List.copyOf(ids);
+        afterCompletion(() -> cache.synchronous().invalidateAll(keys));
+    }
+
+    @Override
+    public void evictOwner(Long userId) {
+        afterCompletion(() -> cache.asMap().values().removeIf(future -> {
+            TaskResponse task = future.getNow(null);
+            // In-flight loads are dropped too; their owner is not known yet
+            return task == null || Objects.equals(task.getUserId(), userId);
+        }));
+    }
+
+    @Override
+    public void clear() {
+        afterCompletion(() -> cache.synchronous().invalidateAll());
+    }
+
+    private TaskResponse load(Long id, Function<Long, TaskResponse> loader, CompletableFuture<TaskResponse> loading) {
+        try {
+            TaskResponse task = loader.apply(id);
+            loading.complete(task);
+            return task;
+        } catch (RuntimeException e) {
+            // Caffeine drops futures that complete exceptionally
+            loading.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private void afterCompletion(Runnable eviction) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    eviction.run();
+                }
+            });
+        } else {
+            eviction.run();
+        }
+    }
+}
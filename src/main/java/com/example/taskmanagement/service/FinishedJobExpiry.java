@@ -0,0 +1,37 @@
+package com.example.taskmanagement.service;
+
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import java.time.Duration;
+import java.util.function.Predicate;
+
+/**
+ * Expiry for background job progress: a running job never expires, and a finished one is kept for the
+ * retention period from the moment it is put back into the cache on finishing.
+ */
+final class FinishedJobExpiry<K, V> implements Expiry<K, V> {
+
+    private final Predicate<V> finished;
+
+    private final long retentionNanos;
+
+    FinishedJobExpiry(Predicate<V> finished, Duration retention) {
+        this.finished = finished;
+        this.retentionNanos = retention.toNanos();
+    }
+
+    @Override
+    public long expireAfterCreate(K key, V job, long currentTime) {
+        return finished.test(job) ? retentionNanos : Long.MAX_VALUE;
+    }
+
+    @Override
+    public long expireAfterUpdate(K key, V job, long currentTime, long currentDuration) {
+        return expireAfterCreate(key, job, currentTime);
+    }
+
+    @Override
+    public long expireAfterRead(K key, V job, long currentTime, long currentDuration) {
+        return currentDuration;
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.taskmanagement.service;
+
+import com.example.taskmanagement.entity.Task.TaskStatus;
+import com.example.taskmanagement.repository.TaskStatusCount;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Net change in task count per status produced by one mutation, applied to the counter table in one go.
+ */
+public final class StatusDeltas {
+
+    private final Map<TaskStatus, Long> deltas = new EnumMap<>(TaskStatus.class);
+
+    public StatusDeltas add(TaskStatus status, long delta) {
+        deltas.merge(status, delta, Long::sum);
+        return this;
+    }
+
+    public StatusDeltas move(TaskStatus from, TaskStatus to) {
+        if (from != to) {
+            add(from, -1);
+            add(to, 1);
+        }
+        return this;
+    }
+
+    /**
+     * Records that the counted tasks left their current status for {@code to}.
+     */
+    public StatusDeltas moveAll(Collection<? extends TaskStatusCount> counts, TaskStatus to) {
+        counts.forEach(count -> {
+            add(count.getStatus(), -count.getCount());
+            add(to, count.getCount());
+        });
+        return this;
+    }
+
+    /**
+     * Records that the counted tasks were removed.
+     */
+    public StatusDeltas removeAll(Collection<? extends TaskStatusCount> counts) {
+        counts.forEach(count -> add(count.getStatus(), -count.getCount()));
+        return this;
+    }
+
+    Map<TaskStatus, Long> asMap() {
+        return deltas;
+    }
+}
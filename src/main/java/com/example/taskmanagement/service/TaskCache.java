@@ -0,0 +1,32 @@
+package com.example.taskmanagement.service;
+
+import com.example.taskmanagement.dto.TaskResponse;
+
+import java.util.Collection;
+import java.util.function.Function;
+
+/**
+ * Read-through cache of single tasks keyed by id. The cached response carries the owner id, so
+ * permission checks on a hit need no database access.
+ *
+ * <p>Evictions issued inside a transaction take effect once it completes, and discard any load that
+ * is still in flight, so a read racing a write cannot re-cache the old row. Implementations other
+ * than the in-process one (e.g. a shared cache for multi-node deployments) must keep both guarantees.
+ */
+public interface TaskCache {
+
+    /**
+     * Returns the cached task, or loads, caches and returns it. Concurrent misses for the same id
+     * share one load; exceptions from the loader propagate and nothing is cached.
+     */
+    TaskResponse get(Long id, Function<Long, TaskResponse> loader);
+
+    void evict(Long id);
+
+    void evictAll(Collection<Long> ids);
+
+    /** Evicts every cached task owned by the user. */
+    void evictOwner(Long userId);
+
+    void clear();
+}
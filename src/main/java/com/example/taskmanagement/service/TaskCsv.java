@@ -0,0 +1,139 @@
+package com.example.taskmanagement.service;
+
+import com.example.taskmanagement.dto.TaskResponse;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * RFC 4180 style CSV layout shared by task export and import.
+ */
+final class TaskCsv {
+
+    static final List<String> EXPORT_HEADER = List.of(
+            "id", "title", "description", "status", "priority", "deadline",
+            "userId", "username", "createdAt", "updatedAt");
+
+    private TaskCsv() {
+    }
+
+    static void writeHeader(Writer writer) throws IOException {
+        writeRow(writer, EXPORT_HEADER);
+    }
+
+    static void writeTask(Writer writer, TaskResponse task) throws IOException {
+        writeRow(writer, List.of(
+                format(task.getId()),
+                format(task.getTitle()),
+                format(task.getDescription()),
+                format(task.getStatus()),
+                format(task.getPriority()),
+                format(task.getDeadline()),
+                format(task.getUserId()),
+                format(task.getUsername()),
+                format(task.getCreatedAt()),
+                format(task.getUpdatedAt())));
+    }
+
+    private static void writeRow(Writer writer, List<String> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(escape(values.get(i)));
+        }
+        writer.write("\r\n");
+    }
+
+    private static String format(Object value) {
+        return value != null ? value.toString() : "";
+    }
+
+    private static String escape(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0
+                && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    /**
+     * Reads CSV records one at a time, handling quoted fields that contain separators,
+     * escaped quotes and line breaks.
+     */
+    static final class RecordReader {
+
+        private final Reader reader;
+        private int lookahead = -2;
+
+        RecordReader(Reader reader) {
+            this.reader = reader;
+        }
+
+        /**
+         * @return the next record, or {@code null} at end of input
+         */
+        List<String> next() throws IOException {
+            int c = read();
+            if (c == -1) {
+                return null;
+            }
+
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            while (true) {
+                if (quoted) {
+                    if (c == -1) {
+                        throw new IOException("Unterminated quoted field");
+                    }
+                    if (c == '"') {
+                        int next = read();
+                        if (next == '"') {
+                            field.append('"');
+                        } else {
+                            quoted = false;
+                            c = next;
+                            continue;
+                        }
+                    } else {
+                        field.append((char) c);
+                    }
+                } else if (c == '"' && field.isEmpty()) {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else if (c == '\r' || c == '\n' || c == -1) {
+                    if (c == '\r') {
+                        int next = read();
+                        if (next != '\n') {
+                            unread(next);
+                        }
+                    }
+                    fields.add(field.toString());
+                    return fields;
+                } else {
+                    field.append((char) c);
+                }
+                c = read();
+            }
+        }
+
+        private int read() throws IOException {
+            if (lookahead != -2) {
+                int c = lookahead;
+                lookahead = -2;
+                return c;
+            }
+            return reader.read();
+        }
+
+        private void unread(int c) {
+            lookahead = c;
+        }
+    }
+}
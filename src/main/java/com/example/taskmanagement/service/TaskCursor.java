@@ -0,0 +1,52 @@
+package com.example.taskmanagement.service;
+
+import com.example.taskmanagement.dto.TaskResponse;
+import com.example.taskmanagement.exception.BadRequestException;
+import com.example.taskmanagement.repository.TaskSortField;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque keyset cursor: the sort key and id of the last row returned, plus the ordering they belong to.
+ */
+record TaskCursor(TaskSortField sortField, boolean ascending, Object value, Long id) {
+
+    private static final String SEPARATOR = "|";
+    private static final String NULL_VALUE = "~";
+
+    static TaskCursor after(TaskResponse task, TaskSortField sortField, boolean ascending) {
+        Object value = switch (sortField) {
+            case CREATED_AT -> task.getCreatedAt();
+            case PRIORITY -> task.getPriority();
+            case DEADLINE -> task.getDeadline();
+        };
+        return new TaskCursor(sortField, ascending, value, task.getId());
+    }
+
+    String encode() {
+        String raw = String.join(SEPARATOR,
+                sortField.name(),
+                ascending ? "A" : "D",
+                value != null ? value.toString() : NULL_VALUE,
+                id.toString());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static TaskCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 4) {
+                throw new BadRequestException("Invalid cursor");
+            }
+            TaskSortField sortField = TaskSortField.valueOf(parts[0]);
+            Object value = NULL_VALUE.equals(parts[2]) ? null : sortField.parseValue(parts[2]);
+            return new TaskCursor(sortField, "A".equals(parts[1]), value, Long.valueOf(parts[3]));
+        } catch (BadRequestException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            throw new BadRequestException("Invalid cursor", e);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.taskmanagement.service;
+
+import com.example.taskmanagement.dto.TaskResponse;
+import com.example.taskmanagement.entity.Task.TaskStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Strong ETags for task representations. A single task is identified by its id, version and
+ * {@code updatedAt}; a list page by its scope and paging plus the count and latest {@code updatedAt}
+ * of the rows in scope, which a cheap aggregate query can answer without loading the page.
+ */
+public final class TaskETags {
+
+    private TaskETags() {
+    }
+
+    public static String forTask(TaskResponse task) {
+        return forTask(task.getId(), task.getVersion(), task.getUpdatedAt());
+    }
+
+    static String forTask(Long id, Long version, LocalDateTime updatedAt) {
+        // Seconds only: the column may store less precision than the in-memory timestamp after a write,
+        // and the version already tells apart updates within the same second
+        return hash(id + "|" + version + "|" + (updatedAt != null ? updatedAt.truncatedTo(ChronoUnit.SECONDS) : null));
+    }
+
+    static String forList(Long userId, TaskStatus status, Pageable pageable, long count, LocalDateTime lastUpdatedAt) {
+        return hash(userId + "|" + status + "|" + pageable.getPageNumber() + "|" + pageable.getPageSize()
+                + "|" + pageable.getSort() + "|" + count + "|" + lastUpdatedAt);
+    }
+
+    /**
+     * Evaluates an {@code If-Match} header: {@code *} or any listed strong ETag equal to the current one.
+     */
+    static boolean matches(String ifMatch, String etag) {
+        for (String candidate : ifMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.equals("*") || value.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String hash(String value) {
+        return "\"" + DigestUtils.md5DigestAsHex(value.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+}
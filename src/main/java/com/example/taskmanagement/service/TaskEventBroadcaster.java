@@ -0,0 +1,315 @@
+package com.example.taskmanagement.service;
+
+import com.example.taskmanagement.dto.TaskEvent;
+import com.example.taskmanagement.exception.ServiceOverloadedException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Fans committed task events out to SSE subscribers: owners get their own tasks, admins a filtered
+ * firehose. Idle subscribers hold no thread, only an async request. Publishing never blocks: each
+ * event is serialized once and offered to a bounded per-subscriber queue, and the publisher never
+ * touches the emitter itself. Queues are drained on a bounded pool of platform threads, since the
+ * emitter's send and complete are synchronized and would pin a virtual thread's carrier for as long
+ * as a write to a slow client blocks; a slow client only ever stalls its own writes and one sender.
+ *
+ * <p>A subscriber whose queue is full is either disconnected, or has events dropped and receives a
+ * resync event once it catches up; either way it recovers through delta sync. A disconnect only marks
+ * the subscriber closed, and its sender completes the stream once any pending write returns.
+ */
+@Component
+@Slf4j
+public class TaskEventBroadcaster implements DisposableBean {
+
+    public enum OverflowPolicy {
+        DISCONNECT, DROP
+    }
+
+    private static final Set<DataWithMediaType> KEEPALIVE = SseEmitter.event().comment("keepalive").build();
+
+    private final ObjectMapper objectMapper;
+
+    private final Duration timeout;
+
+    private final int bufferSize;
+
+    private final int maxSubscribers;
+
+    private final OverflowPolicy overflowPolicy;
+
+    private final Map<Long, Set<Subscriber>> byOwner = new ConcurrentHashMap<>();
+
+    private final Set<Subscriber> firehose = ConcurrentHashMap.newKeySet();
+
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+
+    private final ExecutorService senders;
+
+    private final Set<DataWithMediaType> resyncFrame;
+
+    private final Counter published;
+
+    private final Counter dropped;
+
+    private final Counter disconnected;
+
+    public TaskEventBroadcaster(
+            ObjectMapper objectMapper,
+            @Value("${task.events.timeout:30m}") Duration timeout,
+            @Value("${task.events.buffer-size:256}") int bufferSize,
+            @Value("${task.events.max-subscribers:20000}") int maxSubscribers,
+            @Value("${task.events.overflow:DISCONNECT}") OverflowPolicy overflowPolicy,
+            @Value("${task.events.sender-threads:32}") int senderThreads,
+            MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.timeout = timeout;
+        this.bufferSize = bufferSize;
+        this.maxSubscribers = maxSubscribers;
+        this.overflowPolicy = overflowPolicy;
+        this.senders = Executors.newFixedThreadPool(senderThreads,
+                Thread.ofPlatform().name("task-events-", 0).daemon().factory());
+        this.resyncFrame = frame(TaskEvent.resync(null));
+
+        Gauge.builder("task.events.subscribers", subscriberCount, AtomicInteger::get)
+                .description("Open task event streams")
+                .register(meterRegistry);
+        this.published = Counter.builder("task.events.published")
+                .description("Task events published to subscribers")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("task.events.dropped")
+                .description("Task events dropped because a subscriber's buffer was full")
+                .register(meterRegistry);
+        this.disconnected = Counter.builder("task.events.disconnected")
+                .description("Subscribers disconnected because their buffer was full")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Opens a stream of events for tasks owned by {@code userId}.
+     */
+    public SseEmitter subscribe(Long userId) {
+        return register(new SseEmitter(timeout.toMillis()), userId, Set.of(), false);
+    }
+
+    /**
+     * Opens an admin stream of every user's events, optionally narrowed to one owner and to some types.
+     */
+    public SseEmitter subscribeAll(Long userId, Set<TaskEvent.Type> types) {
+        return register(new SseEmitter(timeout.toMillis()), userId, types, true);
+    }
+
+    SseEmitter register(SseEmitter emitter, Long userId, Set<TaskEvent.Type> types, boolean admin) {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            throw new ServiceOverloadedException("Too many open event streams, please retry later",
+                    Duration.ofSeconds(30));
+        }
+
+        Subscriber subscriber = new Subscriber(emitter, userId, types.isEmpty() ? null : Set.copyOf(types));
+        if (admin) {
+            firehose.add(subscriber);
+        } else {
+            byOwner.compute(userId, (id, owners) -> {
+                Set<Subscriber> subscribers = owners != null ? owners : ConcurrentHashMap.newKeySet();
+                subscribers.add(subscriber);
+                return subscribers;
+            });
+        }
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(() -> {
+            subscriber.close();
+            emitter.complete();
+        });
+        emitter.onError(error -> subscriber.close());
+        // Commits the response headers so the client sees the stream open before the first event
+        subscriber.offer(KEEPALIVE);
+        return emitter;
+    }
+
+    /**
+     * Runs after the publishing transaction commits, so subscribers never see a rolled-back change.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskEvent(TaskEvent event) {
+        Set<DataWithMediaType> frame = frame(event);
+        if (frame == null) {
+            return;
+        }
+        published.increment();
+
+        if (event.getUserId() != null) {
+            Set<Subscriber> owners = byOwner.get(event.getUserId());
+            if (owners != null) {
+                owners.forEach(subscriber -> subscriber.offer(frame));
+            }
+        } else {
+            byOwner.values().forEach(owners -> owners.forEach(subscriber -> subscriber.offer(frame)));
+        }
+        for (Subscriber subscriber : firehose) {
+            if (subscriber.accepts(event)) {
+                subscriber.offer(frame);
+            }
+        }
+    }
+
+    /**
+     * Keeps idle streams open through proxies and surfaces dead connections; skipped for busy streams.
+     */
+    @Scheduled(fixedRateString = "${task.events.keepalive-interval:PT30S}")
+    public void sendKeepalives() {
+        byOwner.values().forEach(owners -> owners.forEach(Subscriber::keepalive));
+        firehose.forEach(Subscriber::keepalive);
+    }
+
+    @Override
+    public void destroy() {
+        byOwner.values().forEach(owners -> owners.forEach(subscriber -> subscriber.emitter.complete()));
+        firehose.forEach(subscriber -> subscriber.emitter.complete());
+        senders.shutdownNow();
+    }
+
+    private Set<DataWithMediaType> frame(TaskEvent event) {
+        try {
+            return SseEmitter.event()
+                    .name("task." + event.getType().name().toLowerCase(Locale.ROOT))
+                    .data(objectMapper.writeValueAsString(event))
+                    .build();
+        } catch (JsonProcessingException e) {
+            log.error("Could not serialize task event {}", event.getType(), e);
+            return null;
+        }
+    }
+
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+
+        private final Long userId;
+
+        private final Set<TaskEvent.Type> types;
+
+        private final Queue<Set<DataWithMediaType>> queue = new ConcurrentLinkedQueue<>();
+
+        private final AtomicInteger queued = new AtomicInteger();
+
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private final AtomicBoolean lostEvents = new AtomicBoolean();
+
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private final AtomicBoolean disconnecting = new AtomicBoolean();
+
+        private Subscriber(SseEmitter emitter, Long userId, Set<TaskEvent.Type> types) {
+            this.emitter = emitter;
+            this.userId = userId;
+            this.types = types;
+        }
+
+        boolean accepts(TaskEvent event) {
+            return (userId == null || event.getUserId() == null || userId.equals(event.getUserId()))
+                    && (types == null || types.contains(event.getType()));
+        }
+
+        void offer(Set<DataWithMediaType> frame) {
+            if (closed.get()) {
+                return;
+            }
+            if (queued.incrementAndGet() > bufferSize) {
+                queued.decrementAndGet();
+                overflow();
+                return;
+            }
+            queue.add(frame);
+            scheduleDrain();
+        }
+
+        void keepalive() {
+            if (queued.get() == 0) {
+                offer(KEEPALIVE);
+            }
+        }
+
+        private void overflow() {
+            if (overflowPolicy == OverflowPolicy.DISCONNECT) {
+                disconnected.increment();
+                log.debug("Disconnecting slow task event subscriber for user {}", userId);
+                // complete() waits on the emitter's monitor, held by a blocked send; leave it to the sender
+                disconnecting.set(true);
+                close();
+                scheduleDrain();
+            } else {
+                dropped.increment();
+                lostEvents.set(true);
+            }
+        }
+
+        private void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                senders.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                do {
+                    if (!closed.get() && lostEvents.getAndSet(false)) {
+                        emitter.send(resyncFrame);
+                    }
+                    Set<DataWithMediaType> frame;
+                    while (!closed.get() && (frame = queue.poll()) != null) {
+                        queued.decrementAndGet();
+                        emitter.send(frame);
+                    }
+                    draining.set(false);
+                    // An offer between the last poll and the reset found draining set and left its frame to us
+                } while (!closed.get() && (!queue.isEmpty() || lostEvents.get())
+                        && draining.compareAndSet(false, true));
+            } catch (IOException | IllegalStateException e) {
+                log.debug("Task event stream for user {} closed: {}", userId, e.getMessage());
+                close();
+            }
+            if (disconnecting.getAndSet(false)) {
+                emitter.complete();
+            }
+        }
+
+        void close() {
+            if (!closed.compareAndSet(false, true)) {
+                return;
+            }
+            subscriberCount.decrementAndGet();
+            queue.clear();
+            if (!firehose.remove(this)) {
+                byOwner.computeIfPresent(userId, (id, owners) -> {
+                    owners.remove(this);
+                    return owners.isEmpty() ? null : owners;
+                });
+            }
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.taskmanagement.service;
+
+import com.example.taskmanagement.dto.TaskEventMessage;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Destination for outbox events. A batch holds several users' events in commit order; throwing
+ * fails the whole batch, which is then retried user by user, so a sink may see a message again.
+ */
+public interface TaskEventSink {
+
+    String getName();
+
+    void deliver(List<TaskEventMessage> messages) throws IOException;
+}
@@ -0,0 +1,70 @@
+package com.example.taskmanagement.service;
+
+import com.example.taskmanagement.dto.TaskFileFormat;
+import com.example.taskmanagement.dto.TaskResponse;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Writes a task stream row by row so exports never hold more than one row in memory.
+ */
+@Component
+@RequiredArgsConstructor
+public class TaskExportWriter {
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * @return the number of rows written
+     */
+    public long write(Stream<TaskResponse> tasks, TaskFileFormat format, OutputStream out) {
+        try {
+            return format == TaskFileFormat.CSV ? writeCsv(tasks, out) : writeNdjson(tasks, out);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Task export failed", e);
+        }
+    }
+
+    private long writeNdjson(Stream<TaskResponse> tasks, OutputStream out) throws IOException {
+        long count = 0;
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+             SequenceWriter writer = objectMapper.writerFor(TaskResponse.class)
+                     .withRootValueSeparator("\n")
+                     .writeValues(generator)) {
+            for (Iterator<TaskResponse> it = tasks.iterator(); it.hasNext(); ) {
+                writer.write(it.next());
+                count++;
+            }
+            if (count > 0) {
+                generator.writeRaw('\n');
+            }
+        }
+        return count;
+    }
+
+    private long writeCsv(Stream<TaskResponse> tasks, OutputStream out) throws IOException {
+        long count = 0;
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        TaskCsv.writeHeader(writer);
+        for (Iterator<TaskResponse> it = tasks.iterator(); it.hasNext(); ) {
+            TaskCsv.writeTask(writer, it.next());
+            count++;
+        }
+        writer.flush();
+        return count;
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.taskmanagement.service;
+
+import com.example.taskmanagement.dto.TaskImportReport;
+import com.example.taskmanagement.dto.TaskImportReport.RowError;
+import com.example.taskmanagement.dto.TaskImportReport.Status;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Live progress of one import, readable from other requests while the upload is still being consumed.
+ */
+class TaskImportJob {
+
+    private static final int MAX_REPORTED_ERRORS = 1000;
+
+    private final String id;
+    private final Long ownerId;
+    private final LocalDateTime startedAt = LocalDateTime.now();
+    private final AtomicLong processed = new AtomicLong();
+    private final AtomicLong imported = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final List<RowError> errors = new ArrayList<>();
+    private volatile Status status = Status.RUNNING;
+    private volatile LocalDateTime finishedAt;
+
+    TaskImportJob(String id, Long ownerId) {
+        this.id = id;
+        this.ownerId = ownerId;
+    }
+
+    String getId() {
+        return id;
+    }
+
+    Long getOwnerId() {
+        return ownerId;
+    }
+
+    void rowProcessed() {
+        processed.incrementAndGet();
+    }
+
+    void rowsImported(int count) {
+        imported.addAndGet(count);
+    }
+
+    void rowFailed(long row, String message) {
+        failed.incrementAndGet();
+        synchronized (errors) {
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new RowError(row, message));
+            }
+        }
+    }
+
+    boolean isFinished() {
+        return status != Status.RUNNING;
+    }
+
+    void finish(Status status) {
+        this.finishedAt = LocalDateTime.now();
+        this.status = status;
+    }
+
+    TaskImportReport toReport() {
+        List<RowError> snapshot;
+        synchronized (errors) {
+            snapshot = List.copyOf(errors);
+        }
+        return new TaskImportReport(id, status, processed.get(), imported.get(), failed.get(),
+                startedAt, finishedAt, snapshot);
+    }
+}
@@ -0,0 +1,271 @@
+package com.example.taskmanagement.service;
+
+import com.example.taskmanagement.dto.TaskFileFormat;
+import com.example.taskmanagement.dto.TaskImportReport;
+import com.example.taskmanagement.dto.TaskRequest;
+import com.example.taskmanagement.entity.Task;
+import com.example.taskmanagement.entity.Task.TaskStatus;
+import com.example.taskmanagement.entity.User;
+import com.example.taskmanagement.exception.BadRequestException;
+import com.example.taskmanagement.exception.ResourceAlreadyExistsException;
+import com.example.taskmanagement.repository.TaskRepository;
+import com.example.taskmanagement.repository.UserRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Imports tasks from an NDJSON or CSV upload while it is being received: rows are parsed one at a time,
+ * validated against the {@link TaskRequest} constraints and inserted in chunks, each in its own transaction.
+ */
+@Component
+@Slf4j
+public class TaskImporter {
+
+    private static final Pattern JOB_ID_PATTERN = Pattern.compile("[A-Za-z0-9_-]{1,64}");
+
+    private final TaskRepository taskRepository;
+    private final UserRepository userRepository;
+    private final Validator validator;
+    private final ObjectReader taskRequestReader;
+    private final TaskStatsService taskStatsService;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final Cache<String, TaskImportJob> jobs;
+
+    public TaskImporter(TaskRepository taskRepository,
+                        UserRepository userRepository,
+                        TaskStatsService taskStatsService,
+                        Validator validator,
+                        ObjectMapper objectMapper,
+                        PlatformTransactionManager transactionManager,
+                        @Value("${task.import.chunk-size:500}") int chunkSize,
+                        @Value("${task.import.job-retention:1h}") Duration jobRetention,
+                        @Value("${task.import.max-retained-jobs:10000}") long maxRetainedJobs) {
+        this.taskRepository = taskRepository;
+        this.userRepository = userRepository;
+        this.taskStatsService = taskStatsService;
+        this.validator = validator;
+        this.taskRequestReader = objectMapper.readerFor(TaskRequest.class);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        // Running jobs never expire and weigh nothing, so only finished jobs count against the cap
+        this.jobs = Caffeine.newBuilder()
+                .expireAfter(new FinishedJobExpiry<String, TaskImportJob>(TaskImportJob::isFinished, jobRetention))
+                .maximumWeight(maxRetainedJobs)
+                .weigher((String jobId, TaskImportJob job) -> job.isFinished() ? 1 : 0)
+                .build();
+    }
+
+    public TaskImportReport importTasks(InputStream in, TaskFileFormat format, String jobId, Long ownerId) {
+        if (jobId != null && !JOB_ID_PATTERN.matcher(jobId).matches()) {
+            throw new BadRequestException("Job id must be 1-64 letters, digits, '-' or '_'");
+        }
+        TaskImportJob job = new TaskImportJob(jobId != null ? jobId : UUID.randomUUID().toString(), ownerId);
+        if (jobs.asMap().putIfAbsent(job.getId(), job) != null) {
+            throw new ResourceAlreadyExistsException("Import job already exists: " + job.getId());
+        }
+        log.info("Starting {} import {} for user id: {}", format, job.getId(), ownerId);
+
+        ChunkWriter writer = new ChunkWriter(job);
+        try {
+            BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+            if (format == TaskFileFormat.CSV) {
+                readCsv(reader, job, writer);
+            } else {
+                readNdjson(reader, job, writer);
+            }
+            writer.flush();
+            job.finish(TaskImportReport.Status.COMPLETED);
+        } catch (IOException | RuntimeException e) {
+            log.error("Import {} aborted: {}", job.getId(), e.getMessage());
+            writer.flush();
+            job.rowFailed(0, "Import aborted: " + e.getMessage());
+            job.finish(TaskImportReport.Status.FAILED);
+        }
+
+        // Re-put so the finished job's retention period starts now
+        jobs.asMap().replace(job.getId(), job, job);
+
+        TaskImportReport report = job.toReport();
+        log.info("Finished import {}: {} imported, {} failed", job.getId(), report.getImported(), report.getFailed());
+        return report;
+    }
+
+    Optional<TaskImportJob> findJob(String jobId) {
+        return Optional.ofNullable(jobs.getIfPresent(jobId));
+    }
+
+    private void readNdjson(BufferedReader reader, TaskImportJob job, ChunkWriter writer) throws IOException {
+        long row = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            row++;
+            if (line.isBlank()) {
+                continue;
+            }
+            job.rowProcessed();
+            try {
+                accept(row, taskRequestReader.readValue(line), job, writer);
+            } catch (JsonProcessingException e) {
+                job.rowFailed(row, "Malformed JSON: " + e.getOriginalMessage());
+            }
+        }
+    }
+
+    private void readCsv(BufferedReader reader, TaskImportJob job, ChunkWriter writer) throws IOException {
+        TaskCsv.RecordReader records = new TaskCsv.RecordReader(reader);
+        List<String> header = records.next();
+        if (header == null) {
+            return;
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            columns.put(header.get(i).trim(), i);
+        }
+        if (!columns.containsKey("title")) {
+            throw new IllegalArgumentException("CSV header must contain a title column");
+        }
+
+        long row = 1;
+        List<String> record;
+        while ((record = records.next()) != null) {
+            row++;
+            if (record.size() == 1 && record.get(0).isBlank()) {
+                continue;
+            }
+            job.rowProcessed();
+            try {
+                accept(row, toRequest(record, columns), job, writer);
+            } catch (RuntimeException e) {
+                job.rowFailed(row, e.getMessage());
+            }
+        }
+    }
+
+    private TaskRequest toRequest(List<String> record, Map<String, Integer> columns) {
+        TaskRequest request = new TaskRequest();
+        request.setTitle(column(record, columns, "title"));
+        request.setDescription(column(record, columns, "description"));
+
+        String status = column(record, columns, "status");
+        if (status != null) {
+            try {
+                request.setStatus(TaskStatus.valueOf(status));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("status: unknown value " + status);
+            }
+        }
+        String priority = column(record, columns, "priority");
+        if (priority != null) {
+            try {
+                request.setPriority(Integer.valueOf(priority));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("priority: not a number " + priority);
+            }
+        }
+        String deadline = column(record, columns, "deadline");
+        if (deadline != null) {
+            try {
+                request.setDeadline(LocalDateTime.parse(deadline));
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("deadline: not an ISO date-time " + deadline);
+            }
+        }
+        return request;
+    }
+
+    private static String column(List<String> record, Map<String, Integer> columns, String name) {
+        Integer index = columns.get(name);
+        if (index == null || index >= record.size() || record.get(index).isEmpty()) {
+            return null;
+        }
+        return record.get(index);
+    }
+
+    private void accept(long row, TaskRequest request, TaskImportJob job, ChunkWriter writer) {
+        Set<ConstraintViolation<TaskRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            job.rowFailed(row, violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining("; ")));
+            return;
+        }
+        writer.add(row, request);
+    }
+
+    private record PendingRow(long row, TaskRequest request) {
+    }
+
+    /**
+     * Buffers valid rows and inserts each full chunk in its own bounded transaction.
+     */
+    private final class ChunkWriter {
+
+        private final TaskImportJob job;
+        private final List<PendingRow> pending = new ArrayList<>();
+
+        private ChunkWriter(TaskImportJob job) {
+            this.job = job;
+        }
+
+        void add(long row, TaskRequest request) {
+            pending.add(new PendingRow(row, request));
+            if (pending.size() >= chunkSize) {
+                flush();
+            }
+        }
+
+        void flush() {
+            if (pending.isEmpty()) {
+                return;
+            }
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    User owner = userRepository.getReferenceById(job.getOwnerId());
+                    List<Task> tasks = pending.stream()
+                            .map(pendingRow -> TaskService.newTask(pendingRow.request(), owner))
+                            .toList();
+                    taskRepository.saveAll(tasks);
+
+                    StatusDeltas deltas = new StatusDeltas();
+                    tasks.forEach(task -> deltas.add(task.getStatus(), 1));
+                    taskStatsService.apply(deltas);
+                });
+                job.rowsImported(pending.size());
+            } catch (RuntimeException e) {
+                log.error("Import {} chunk of {} rows failed: {}", job.getId(), pending.size(), e.getMessage());
+                pending.forEach(pendingRow -> job.rowFailed(pendingRow.row(), "Insert failed: " + e.getMessage()));
+            } finally {
+                pending.clear();
+            }
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.taskmanagement.service;
+
+import com.example.taskmanagement.dto.TaskEvent;
+import com.example.taskmanagement.entity.TaskOutboxEvent;
+import com.example.taskmanagement.entity.TaskOutboxSequence;
+import com.example.taskmanagement.repository.TaskOutboxRepository;
+import com.example.taskmanagement.repository.TaskOutboxSequenceRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Writes every published {@link TaskEvent} to the outbox. Runs synchronously in the publisher's
+ * transaction, so the event commits or rolls back together with the change it describes.
+ *
+ * <p>A transaction's events are held until it is about to commit, then numbered per user under a lock
+ * on the user's {@link TaskOutboxSequence} row and inserted in one batch. The lock is held through the
+ * commit, so a user's sequence numbers follow commit order, and the dispatcher can never see a number
+ * before the lower ones of that user. Numbers never fall below the current time in microseconds, so
+ * across users they also roughly follow commit time.
+ */
+@Component
+public class TaskOutbox {
+
+    private final TaskOutboxRepository outboxRepository;
+    private final TaskOutboxSequenceRepository sequenceRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate newTransactionTemplate;
+
+    public TaskOutbox(TaskOutboxRepository outboxRepository,
+                      TaskOutboxSequenceRepository sequenceRepository,
+                      ObjectMapper objectMapper,
+                      PlatformTransactionManager transactionManager) {
+        this.outboxRepository = outboxRepository;
+        this.sequenceRepository = sequenceRepository;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.newTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.newTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @EventListener
+    public void record(TaskEvent event) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            transactionTemplate.executeWithoutResult(status -> record(event));
+            return;
+        }
+
+        TaskOutboxEvent outboxEvent = new TaskOutboxEvent();
+        outboxEvent.setEventType(event.getType());
+        outboxEvent.setTaskId(event.getTaskId());
+        outboxEvent.setUserId(event.getUserId());
+        outboxEvent.setPayload(serialize(event));
+        outboxEvent.setCreatedAt(LocalDateTime.now());
+        pendingEvents().add(outboxEvent);
+    }
+
+    private List<TaskOutboxEvent> pendingEvents() {
+        @SuppressWarnings("unchecked")
+        List<TaskOutboxEvent> pending = (List<TaskOutboxEvent>) TransactionSynchronizationManager.getResource(this);
+        if (pending != null) {
+            return pending;
+        }
+        List<TaskOutboxEvent> events = new ArrayList<>();
+        TransactionSynchronizationManager.bindResource(this, events);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                write(events);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(TaskOutbox.this);
+            }
+        });
+        return events;
+    }
+
+    private void write(List<TaskOutboxEvent> events) {
+        // Lock sequence rows in user order, so transactions writing several users' events can't deadlock
+        Map<Long, List<TaskOutboxEvent>> byUser = new TreeMap<>();
+        events.forEach(event -> byUser.computeIfAbsent(
+                event.getUserId() != null ? event.getUserId() : TaskOutboxSequence.NO_OWNER,
+                userId -> new ArrayList<>()).add(event));
+
+        long floor = ChronoUnit.MICROS.between(Instant.EPOCH, Instant.now());
+        byUser.forEach((userId, userEvents) -> {
+            TaskOutboxSequence sequence = lockSequence(userId);
+            long next = Math.max(sequence.getLastSequenceNumber() + 1, floor);
+            for (TaskOutboxEvent event : userEvents) {
+                event.setSequenceNumber(next++);
+            }
+            sequence.setLastSequenceNumber(next - 1);
+        });
+        outboxRepository.saveAll(events);
+    }
+
+    private TaskOutboxSequence lockSequence(Long userId) {
+        return sequenceRepository.lockByUserId(userId).orElseGet(() -> {
+            // First event for this user: create the row on the side, so losing the race to another
+            // writer doesn't fail the caller's transaction
+            try {
+                newTransactionTemplate.executeWithoutResult(status ->
+                        sequenceRepository.saveAndFlush(new TaskOutboxSequence(userId, 0L)));
+            } catch (DataIntegrityViolationException e) {
+                // Another writer created it first
+            }
+            return sequenceRepository.lockByUserId(userId).orElseThrow();
+        });
+    }
+
+    private String serialize(TaskEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize task event " + event.getType(), e);
+        }
+    }
+}
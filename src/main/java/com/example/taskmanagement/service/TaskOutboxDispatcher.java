@@ -0,0 +1,253 @@
+package com.example.taskmanagement.service;
+
+import com.example.taskmanagement.dto.TaskEvent;
+import com.example.taskmanagement.dto.TaskEventMessage;
+import com.example.taskmanagement.entity.TaskOutboxEvent;
+import com.example.taskmanagement.entity.TaskOutboxLease;
+import com.example.taskmanagement.repository.TaskOutboxBacklog;
+import com.example.taskmanagement.repository.TaskOutboxLeaseRepository;
+import com.example.taskmanagement.repository.TaskOutboxRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Drains the task outbox to every {@link TaskEventSink} in batches, deleting events once all sinks
+ * accept them. A failed batch is retried user by user: a failing user's oldest event backs off
+ * exponentially and holds back the rest of that user's events, while other users carry on.
+ * Each user's events are delivered in the order their transactions committed (see {@link TaskOutbox});
+ * there is no order between different users' events.
+ *
+ * <p>With several instances on one database, only the holder of the dispatcher lease delivers; it renews
+ * the lease before every batch and another instance takes over once it lapses. Deliveries are at least
+ * once, so a batch must finish within {@code task.outbox.lease.duration} to avoid a takeover mid-batch.
+ */
+@Component
+@Slf4j
+public class TaskOutboxDispatcher {
+
+    private static final String LEASE_NAME = "task-outbox-dispatcher";
+
+    private final TaskOutboxRepository outboxRepository;
+
+    private final TaskOutboxLeaseRepository leaseRepository;
+
+    private final ObjectMapper objectMapper;
+
+    private final List<TaskEventSink> sinks;
+
+    private final boolean enabled;
+
+    private final int batchSize;
+
+    private final Duration initialBackoff;
+
+    private final Duration maxBackoff;
+
+    private final Duration leaseDuration;
+
+    private final String instanceId = UUID.randomUUID().toString();
+
+    private volatile boolean leaseHeld;
+
+    private final Map<String, Timer> sinkTimers = new LinkedHashMap<>();
+
+    private final Map<String, Counter> sinkFailures = new LinkedHashMap<>();
+
+    private final Counter delivered;
+
+    private final Timer deliveryLag;
+
+    private final AtomicLong pending = new AtomicLong();
+
+    private final AtomicLong oldestPendingMillis = new AtomicLong();
+
+    public TaskOutboxDispatcher(
+            TaskOutboxRepository outboxRepository,
+            TaskOutboxLeaseRepository leaseRepository,
+            ObjectMapper objectMapper,
+            List<TaskEventSink> sinks,
+            @Value("${task.outbox.dispatcher.enabled:true}") boolean enabled,
+            @Value("${task.outbox.batch-size:200}") int batchSize,
+            @Value("${task.outbox.backoff.initial:1s}") Duration initialBackoff,
+            @Value("${task.outbox.backoff.max:5m}") Duration maxBackoff,
+            @Value("${task.outbox.lease.duration:30s}") Duration leaseDuration,
+            MeterRegistry meterRegistry) {
+        this.outboxRepository = outboxRepository;
+        this.leaseRepository = leaseRepository;
+        this.objectMapper = objectMapper;
+        this.sinks = sinks;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.leaseDuration = leaseDuration;
+
+        for (TaskEventSink sink : sinks) {
+            sinkTimers.put(sink.getName(), Timer.builder("task.outbox.sink")
+                    .tag("sink", sink.getName())
+                    .description("Time spent delivering a batch to an outbox sink")
+                    .register(meterRegistry));
+            sinkFailures.put(sink.getName(), Counter.builder("task.outbox.sink.failures")
+                    .tag("sink", sink.getName())
+                    .description("Outbox deliveries rejected by a sink")
+                    .register(meterRegistry));
+        }
+        this.delivered = Counter.builder("task.outbox.delivered")
+                .description("Task events delivered to every outbox sink")
+                .register(meterRegistry);
+        this.deliveryLag = Timer.builder("task.outbox.delivery.lag")
+                .description("Time from writing a task event to delivering it")
+                .register(meterRegistry);
+        Gauge.builder("task.outbox.pending", pending, AtomicLong::get)
+                .description("Task events waiting in the outbox")
+                .register(meterRegistry);
+        TimeGauge.builder("task.outbox.lag", oldestPendingMillis, TimeUnit.MILLISECONDS, AtomicLong::get)
+                .description("Age of the oldest undelivered task event")
+                .register(meterRegistry);
+
+        log.info("Task outbox sinks: {}", sinkTimers.keySet());
+    }
+
+    @Scheduled(fixedDelayString = "${task.outbox.poll-interval:PT1S}")
+    public void dispatch() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            while (acquireLease() && dispatchBatch() == batchSize) {
+                // A full batch means more are waiting
+            }
+        } finally {
+            refreshBacklog();
+        }
+    }
+
+    /**
+     * Takes or renews the dispatcher lease, creating it on first use.
+     *
+     * @return whether this instance may dispatch until the lease duration has passed
+     */
+    boolean acquireLease() {
+        LocalDateTime now = LocalDateTime.now();
+        boolean held = leaseRepository.tryAcquire(LEASE_NAME, instanceId, now, now.plus(leaseDuration)) == 1;
+        if (!held && !leaseRepository.existsById(LEASE_NAME)) {
+            try {
+                leaseRepository.saveAndFlush(new TaskOutboxLease(LEASE_NAME, instanceId, now.plus(leaseDuration)));
+                held = true;
+            } catch (DataIntegrityViolationException e) {
+                // Another instance created it first
+            }
+        }
+        if (held != leaseHeld) {
+            leaseHeld = held;
+            log.info(held ? "Took the task outbox dispatcher lease" : "Task outbox dispatcher lease is held elsewhere");
+        }
+        return held;
+    }
+
+    /**
+     * Delivers one batch of the oldest deliverable events.
+     *
+     * @return the number of events read, delivered or not
+     */
+    int dispatchBatch() {
+        List<TaskOutboxEvent> batch = outboxRepository.findDeliverable(LocalDateTime.now(), Limit.of(batchSize));
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            deliver(batch);
+            complete(batch);
+            return batch.size();
+        } catch (IOException | RuntimeException e) {
+            log.warn("Outbox batch of {} events failed, retrying per user: {}", batch.size(), e.toString());
+        }
+
+        // Group by owner, keeping commit order within each group; a resync for all users has no owner
+        Map<Long, List<TaskOutboxEvent>> byUser = new LinkedHashMap<>();
+        batch.forEach(event -> byUser.computeIfAbsent(event.getUserId(), userId -> new ArrayList<>()).add(event));
+        byUser.forEach((userId, events) -> {
+            try {
+                deliver(events);
+                complete(events);
+            } catch (IOException | RuntimeException e) {
+                backOff(events.get(0), e);
+            }
+        });
+        return batch.size();
+    }
+
+    private void deliver(List<TaskOutboxEvent> events) throws IOException {
+        List<TaskEventMessage> messages = new ArrayList<>(events.size());
+        for (TaskOutboxEvent event : events) {
+            messages.add(new TaskEventMessage(event.getId(), event.getCreatedAt(),
+                    objectMapper.readValue(event.getPayload(), TaskEvent.class)));
+        }
+
+        for (TaskEventSink sink : sinks) {
+            Timer.Sample sample = Timer.start();
+            try {
+                sink.deliver(messages);
+            } catch (IOException | RuntimeException e) {
+                sinkFailures.get(sink.getName()).increment();
+                throw e;
+            } finally {
+                sample.stop(sinkTimers.get(sink.getName()));
+            }
+        }
+    }
+
+    private void complete(List<TaskOutboxEvent> events) {
+        outboxRepository.deleteAllByIdInBatch(events.stream().map(TaskOutboxEvent::getId).toList());
+
+        LocalDateTime now = LocalDateTime.now();
+        events.forEach(event -> deliveryLag.record(Duration.between(event.getCreatedAt(), now)));
+        delivered.increment(events.size());
+    }
+
+    private void backOff(TaskOutboxEvent head, Exception error) {
+        int attempts = head.getAttempts() + 1;
+        Duration delay = initialBackoff.multipliedBy(1L << Math.min(attempts - 1, 20));
+        if (delay.compareTo(maxBackoff) > 0) {
+            delay = maxBackoff;
+        }
+
+        head.setAttempts(attempts);
+        head.setNextAttemptAt(LocalDateTime.now().plus(delay));
+        String message = error.toString();
+        head.setLastError(message.length() > 500 ? message.substring(0, 500) : message);
+        outboxRepository.save(head);
+
+        log.warn("Outbox delivery for user {} failed (attempt {}), retrying in {}: {}",
+                head.getUserId(), attempts, delay, message);
+    }
+
+    private void refreshBacklog() {
+        TaskOutboxBacklog backlog = outboxRepository.findBacklog();
+        pending.set(backlog.getCount());
+        oldestPendingMillis.set(backlog.getOldestCreatedAt() == null ? 0
+                : Duration.between(backlog.getOldestCreatedAt(), LocalDateTime.now()).toMillis());
+    }
+}
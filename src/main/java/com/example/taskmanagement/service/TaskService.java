@@ -1,113 +1,264 @@
 package com.example.taskmanagement.service;
 
+import com.example.taskmanagement.dto.CursorPage;
+import com.example.taskmanagement.dto.TaskChanges;
+import com.example.taskmanagement.dto.TaskEvent;
+import com.example.taskmanagement.dto.TaskBatchUpdateRequest;
+import com.example.taskmanagement.dto.TaskBulkStatusRequest;
+import com.example.taskmanagement.dto.TaskFileFormat;
+import com.example.taskmanagement.dto.TaskImportReport;
 import com.example.taskmanagement.dto.TaskRequest;
 import com.example.taskmanagement.dto.TaskResponse;
+import com.example.taskmanagement.dto.TaskStatsResponse;
 import com.example.taskmanagement.entity.Task;
 import com.example.taskmanagement.entity.Task.TaskStatus;
 import com.example.taskmanagement.entity.User;
 import com.example.taskmanagement.exception.AccessDeniedException;
+import com.example.taskmanagement.exception.BadRequestException;
+import com.example.taskmanagement.exception.PreconditionFailedException;
 import com.example.taskmanagement.exception.ResourceNotFoundException;
+import com.example.taskmanagement.repository.TaskListVersion;
 import com.example.taskmanagement.repository.TaskRepository;
+import com.example.taskmanagement.repository.TaskSortField;
 import com.example.taskmanagement.repository.UserRepository;
+import com.example.taskmanagement.security.AuthenticatedUser;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
+@Timed(value = "task.service", description = "TaskService method latency")
 public class TaskService {
 
+    private static final Pattern SEARCH_TERM_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final int MAX_SEARCH_TERMS = 8;
+
     private final TaskRepository taskRepository;
     private final UserRepository userRepository;
+    private final TaskExportWriter taskExportWriter;
+    private final TaskImporter taskImporter;
+    private final TaskStatsService taskStatsService;
+    private final TaskCache taskCache;
+    private final TaskSyncService taskSyncService;
+    private final TaskEventBroadcaster taskEventBroadcaster;
+    private final ApplicationEventPublisher eventPublisher;
 
-    private User getCurrentUser() {
+    /**
+     * Resolves the caller from the authenticated principal; only falls back to a user lookup
+     * when the principal doesn't carry the user id.
+     */
+    private CurrentUser getCurrentUser() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String username = authentication.getName();
-        return userRepository.findByUsername(username)
+        if (authentication.getPrincipal() instanceof AuthenticatedUser principal) {
+            return new CurrentUser(principal.getId(), principal.getUsername(), principal.isAdmin());
+        }
+
+        User user = userRepository.findByUsername(authentication.getName())
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+        return new CurrentUser(user.getId(), user.getUsername(), isAdmin(authentication));
     }
 
-    private boolean isAdmin() {
-        return SecurityContextHolder.getContext().getAuthentication().getAuthorities().stream()
+    private boolean isAdmin(Authentication authentication) {
+        return authentication.getAuthorities().stream()
                 .anyMatch(auth -> auth.getAuthority().equals("ROLE_ADMIN"));
     }
 
+    private record CurrentUser(Long id, String username, boolean admin) {
+
+        boolean canAccess(Task task) {
+            return canAccess(task.getUser().getId());
+        }
+
+        boolean canAccess(Long ownerId) {
+            return admin || ownerId.equals(id);
+        }
+    }
+
     @Transactional
     public TaskResponse createTask(TaskRequest request) {
-        User user = getCurrentUser();
-        log.info("Creating task for user: {}", user.getUsername());
+        CurrentUser user = getCurrentUser();
+        log.info("Creating task for user: {}", user.username());
 
-        Task task = new Task();
-        task.setTitle(request.getTitle());
-        task.setDescription(request.getDescription());
-        task.setStatus(request.getStatus() != null ? request.getStatus() : TaskStatus.PENDING);
-        task.setPriority(request.getPriority() != null ? request.getPriority() : 0);
-        task.setDeadline(request.getDeadline());
-        task.setUser(user);
+        Task task = newTask(request, userRepository.getReferenceById(user.id()));
 
         Task savedTask = taskRepository.save(task);
-        return mapToResponse(savedTask);
+        taskStatsService.apply(new StatusDeltas().add(savedTask.getStatus(), 1));
+        TaskResponse response = mapToResponse(savedTask, user);
+        eventPublisher.publishEvent(TaskEvent.created(response));
+        return response;
     }
 
     public Page<TaskResponse> getAllTasks(TaskStatus status, Pageable pageable) {
-        User user = getCurrentUser();
+        CurrentUser user = getCurrentUser();
 
-        if (isAdmin()) {
+        if (user.admin()) {
             if (status != null) {
-                return taskRepository.findByStatus(status, pageable).map(this::mapToResponse);
+                return taskRepository.findResponsesByStatus(status, pageable);
             }
-            return taskRepository.findAll(pageable).map(this::mapToResponse);
+            return taskRepository.findAllResponses(pageable);
         } else {
             if (status != null) {
-                return taskRepository.findByUserIdAndStatus(user.getId(), status, pageable)
-                        .map(this::mapToResponse);
+                return taskRepository.findResponsesByUserIdAndStatus(user.id(), status, pageable);
             }
-            return taskRepository.findByUserId(user.getId(), pageable).map(this::mapToResponse);
+            return taskRepository.findResponsesByUserId(user.id(), pageable);
+        }
+    }
+
+    /**
+     * ETag of the {@link #getAllTasks} page for the same arguments, answered from a count and
+     * max(updated_at) over the caller's scope rather than the page query.
+     */
+    public String getAllTasksETag(TaskStatus status, Pageable pageable) {
+        CurrentUser user = getCurrentUser();
+        Long userId = user.admin() ? null : user.id();
+
+        TaskListVersion version = taskRepository.findListVersion(userId, status);
+        return TaskETags.forList(userId, status, pageable, version.getCount(), version.getLastUpdatedAt());
+    }
+
+    /**
+     * Delta sync for the caller's tasks (every task for admins), see {@link TaskSyncService}.
+     */
+    public TaskChanges getChanges(String since, int limit) {
+        CurrentUser user = getCurrentUser();
+        return taskSyncService.getChanges(user.admin() ? null : user.id(), since, limit);
+    }
+
+    /**
+     * Opens a server-sent event stream of changes to the caller's tasks.
+     */
+    public SseEmitter subscribeToEvents() {
+        return taskEventBroadcaster.subscribe(getCurrentUser().id());
+    }
+
+    /**
+     * Keyset-paginated listing: seeks past the cursor on (sortKey, id) instead of using an offset,
+     * and fetches one extra row to detect a next page rather than running a count query.
+     */
+    public CursorPage<TaskResponse> scrollTasks(TaskStatus status, String sortBy, String sortDir,
+                                                String cursor, int size) {
+        CurrentUser user = getCurrentUser();
+
+        TaskCursor after = cursor != null ? TaskCursor.decode(cursor) : null;
+        TaskSortField sortField = after != null ? after.sortField() : TaskSortField.fromProperty(sortBy);
+        boolean ascending = after != null ? after.ascending() : sortDir.equalsIgnoreCase("ASC");
+
+        List<TaskResponse> tasks = taskRepository.findPageAfter(
+                user.admin() ? null : user.id(),
+                status,
+                sortField,
+                ascending,
+                after != null ? after.value() : null,
+                after != null ? after.id() : null,
+                size + 1);
+
+        boolean hasNext = tasks.size() > size;
+        if (hasNext) {
+            tasks = tasks.subList(0, size);
+        }
+        String nextCursor = hasNext
+                ? TaskCursor.after(tasks.get(tasks.size() - 1), sortField, ascending).encode()
+                : null;
+
+        return new CursorPage<>(tasks, tasks.size(), hasNext, nextCursor);
+    }
+
+    /**
+     * Full-text search over title and description, most relevant first, scoped like {@link #getAllTasks}.
+     */
+    public List<TaskResponse> searchTasks(String query, TaskStatus status, int limit) {
+        CurrentUser user = getCurrentUser();
+        List<String> terms = searchTerms(query);
+        if (terms.isEmpty()) {
+            throw new BadRequestException("Search query must contain at least one letter or digit");
         }
+
+        List<Long> ids = taskRepository.searchIds(user.admin() ? null : user.id(), status, terms, limit);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, TaskResponse> byId = taskRepository.findResponsesByIdIn(ids).stream()
+                .collect(Collectors.toMap(TaskResponse::getId, Function.identity()));
+        return ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .toList();
     }
 
+    /**
+     * Served from the task cache; a miss loads the response with its owner in one query.
+     */
     public TaskResponse getTaskById(Long id) {
-        Task task = taskRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Task not found"));
+        TaskResponse task = taskCache.get(id, taskId -> taskRepository.findResponseById(taskId)
+                .orElseThrow(() -> new ResourceNotFoundException("Task not found")));
 
-        User currentUser = getCurrentUser();
-        if (!task.getUser().getId().equals(currentUser.getId()) && !isAdmin()) {
+        CurrentUser currentUser = getCurrentUser();
+        if (!currentUser.canAccess(task.getUserId())) {
             throw new AccessDeniedException("You don't have permission to view this task");
         }
 
-        return mapToResponse(task);
+        return task;
     }
 
+    /**
+     * Updates the task, rejecting the change if {@code ifMatch} is given and no longer matches its
+     * ETag. A concurrent update that slips in after the check fails on the version column instead.
+     * Flushes before mapping so the response carries the new version and update time.
+     */
     @Transactional
-    public TaskResponse updateTask(Long id, TaskRequest request) {
+    public TaskResponse updateTask(Long id, TaskRequest request, String ifMatch) {
         Task task = taskRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Task not found"));
 
-        User currentUser = getCurrentUser();
-        if (!task.getUser().getId().equals(currentUser.getId()) && !isAdmin()) {
+        CurrentUser currentUser = getCurrentUser();
+        if (!currentUser.canAccess(task)) {
             throw new AccessDeniedException("You don't have permission to update this task");
         }
+        if (ifMatch != null && !TaskETags.matches(ifMatch,
+                TaskETags.forTask(task.getId(), task.getVersion(), task.getUpdatedAt()))) {
+            throw new PreconditionFailedException("Task has been modified since it was read");
+        }
 
         log.info("Updating task: {}", id);
 
-        task.setTitle(request.getTitle());
-        task.setDescription(request.getDescription());
-        if (request.getStatus() != null) {
-            task.setStatus(request.getStatus());
-        }
-        if (request.getPriority() != null) {
-            task.setPriority(request.getPriority());
-        }
-        task.setDeadline(request.getDeadline());
+        StatusDeltas deltas = new StatusDeltas();
+        applyUpdate(task, request, deltas);
 
         Task updatedTask = taskRepository.save(task);
-        return mapToResponse(updatedTask);
+        taskRepository.flush();
+        taskStatsService.apply(deltas);
+        taskCache.evict(id);
+        TaskResponse response = mapToResponse(updatedTask, currentUser);
+        eventPublisher.publishEvent(TaskEvent.updated(response));
+        return response;
     }
 
     @Transactional
@@ -115,16 +266,285 @@ public class TaskService {
         Task task = taskRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Task not found"));
 
-        User currentUser = getCurrentUser();
-        if (!task.getUser().getId().equals(currentUser.getId()) && !isAdmin()) {
+        CurrentUser currentUser = getCurrentUser();
+        if (!currentUser.canAccess(task)) {
             throw new AccessDeniedException("You don't have permission to delete this task");
         }
 
         log.info("Deleting task: {}", id);
+        taskSyncService.recordDeletions(List.of(task));
         taskRepository.delete(task);
+        taskStatsService.apply(new StatusDeltas().add(task.getStatus(), -1));
+        taskCache.evict(id);
+        eventPublisher.publishEvent(TaskEvent.deleted(id, task.getUser().getId()));
+    }
+
+    @Transactional
+    public List<TaskResponse> createTasks(List<TaskRequest> requests) {
+        CurrentUser user = getCurrentUser();
+        log.info("Batch creating {} tasks for user: {}", requests.size(), user.username());
+
+        User owner = userRepository.getReferenceById(user.id());
+        List<Task> tasks = requests.stream()
+                .map(request -> newTask(request, owner))
+                .toList();
+
+        StatusDeltas deltas = new StatusDeltas();
+        tasks.forEach(task -> deltas.add(task.getStatus(), 1));
+
+        List<Task> savedTasks = taskRepository.saveAll(tasks);
+        taskStatsService.apply(deltas);
+        List<TaskResponse> responses = savedTasks.stream()
+                .map(task -> mapToResponse(task, user))
+                .toList();
+        responses.forEach(response -> eventPublisher.publishEvent(TaskEvent.created(response)));
+        return responses;
+    }
+
+    @Transactional
+    public List<TaskResponse> updateTasks(List<TaskBatchUpdateRequest.Item> items) {
+        CurrentUser currentUser = getCurrentUser();
+
+        Map<Long, TaskRequest> requests = new LinkedHashMap<>();
+        items.forEach(item -> requests.put(item.getId(), item.getTask()));
+        Map<Long, Task> tasks = findAccessibleTasks(requests.keySet(), currentUser, "update");
+
+        log.info("Batch updating {} tasks", tasks.size());
+        StatusDeltas deltas = new StatusDeltas();
+        requests.forEach((id, request) -> applyUpdate(tasks.get(id), request, deltas));
+        // Flush first so responses and events carry the new version and updatedAt
+        taskRepository.flush();
+        taskStatsService.apply(deltas);
+        taskCache.evictAll(tasks.keySet());
+
+        return publishUpdates(tasks.values(), currentUser);
+    }
+
+    @Transactional
+    public List<TaskResponse> updateTaskStatuses(List<Long> ids, TaskStatus status) {
+        CurrentUser currentUser = getCurrentUser();
+        Map<Long, Task> tasks = findAccessibleTasks(ids, currentUser, "update");
+
+        log.info("Batch moving {} tasks to {}", tasks.size(), status);
+        StatusDeltas deltas = new StatusDeltas();
+        tasks.values().forEach(task -> {
+            deltas.move(task.getStatus(), status);
+            task.setStatus(status);
+        });
+        taskRepository.flush();
+        taskStatsService.apply(deltas);
+        taskCache.evictAll(tasks.keySet());
+
+        return publishUpdates(tasks.values(), currentUser);
+    }
+
+    private List<TaskResponse> publishUpdates(Collection<Task> tasks, CurrentUser currentUser) {
+        List<TaskResponse> responses = tasks.stream()
+                .map(task -> mapToResponse(task, currentUser))
+                .toList();
+        responses.forEach(response -> eventPublisher.publishEvent(TaskEvent.updated(response)));
+        return responses;
+    }
+
+    /**
+     * Filtered status transition executed as one UPDATE per source status, without loading entities.
+     * Non-admins are always scoped to their own tasks.
+     *
+     * @return the number of tasks changed
+     */
+    @Transactional
+    public int bulkUpdateStatus(TaskBulkStatusRequest request) {
+        CurrentUser currentUser = getCurrentUser();
+
+        boolean hasIds = request.getIds() != null && !request.getIds().isEmpty();
+        if (!hasIds && request.getCurrentStatus() == null && request.getDeadlineBefore() == null
+                && request.getUserId() == null) {
+            throw new BadRequestException("At least one filter is required");
+        }
+
+        Long userId = currentUser.admin() ? request.getUserId() : currentUser.id();
+        LocalDateTime now = LocalDateTime.now();
+
+        // One UPDATE per source status, so each row count is exactly how far that status's counter moves
+        StatusDeltas deltas = new StatusDeltas();
+        int updated = 0;
+        for (TaskStatus from : TaskStatus.values()) {
+            if (from == request.getStatus()
+                    || (request.getCurrentStatus() != null && request.getCurrentStatus() != from)) {
+                continue;
+            }
+            int moved = hasIds
+                    ? taskRepository.updateStatusWhereIdIn(request.getIds(), request.getStatus(), userId,
+                            from, request.getDeadlineBefore(), now)
+                    : taskRepository.updateStatusWhere(request.getStatus(), userId,
+                            from, request.getDeadlineBefore(), now);
+            deltas.add(from, -moved).add(request.getStatus(), moved);
+            updated += moved;
+        }
+        taskStatsService.apply(deltas);
+        // The changed ids are not known; evict by the narrowest scope the filter gives
+        if (hasIds) {
+            taskCache.evictAll(request.getIds());
+        } else if (userId != null) {
+            taskCache.evictOwner(userId);
+        } else {
+            taskCache.clear();
+        }
+        // The changed tasks are not loaded, so tell the affected owners to resync
+        if (updated > 0) {
+            eventPublisher.publishEvent(TaskEvent.resync(userId));
+        }
+
+        log.info("Bulk moved {} tasks to {}", updated, request.getStatus());
+        return updated;
+    }
+
+    @Transactional
+    public int deleteTasks(List<Long> ids) {
+        CurrentUser currentUser = getCurrentUser();
+        Map<Long, Task> tasks = findAccessibleTasks(ids, currentUser, "delete");
+
+        log.info("Batch deleting {} tasks", tasks.size());
+        StatusDeltas deltas = new StatusDeltas();
+        tasks.values().forEach(task -> deltas.add(task.getStatus(), -1));
+
+        taskSyncService.recordDeletions(tasks.values());
+        taskRepository.deleteAllInBatch(tasks.values());
+        taskStatsService.apply(deltas);
+        taskCache.evictAll(tasks.keySet());
+        tasks.values().forEach(task ->
+                eventPublisher.publishEvent(TaskEvent.deleted(task.getId(), task.getUser().getId())));
+        return tasks.size();
+    }
+
+    /**
+     * Streams the caller's tasks to {@code out} through a forward-only cursor.
+     *
+     * @return the number of exported tasks
+     */
+    @Transactional(readOnly = true)
+    public long exportTasks(TaskFileFormat format, OutputStream out) {
+        CurrentUser user = getCurrentUser();
+        try (Stream<TaskResponse> tasks = taskRepository.streamResponsesByUserId(user.id())) {
+            long count = taskExportWriter.write(tasks, format, out);
+            log.info("Exported {} tasks for user: {}", count, user.username());
+            return count;
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public long exportAllTasks(TaskFileFormat format, OutputStream out) {
+        try (Stream<TaskResponse> tasks = taskRepository.streamAllResponses()) {
+            long count = taskExportWriter.write(tasks, format, out);
+            log.info("Exported {} tasks", count);
+            return count;
+        }
+    }
+
+    public TaskStatsResponse getTaskStats() {
+        CurrentUser user = getCurrentUser();
+        return taskStatsService.getUserStats(user.id());
+    }
+
+    /**
+     * Imports an NDJSON or CSV upload for the caller as it streams in. Not transactional itself:
+     * rows are committed in bounded chunks so a large file never holds one long transaction.
+     */
+    public TaskImportReport importTasks(InputStream in, TaskFileFormat format, String jobId) {
+        CurrentUser user = getCurrentUser();
+        TaskImportReport report = taskImporter.importTasks(in, format, jobId, user.id());
+        eventPublisher.publishEvent(TaskEvent.resync(user.id()));
+        return report;
+    }
+
+    public TaskImportReport getImportProgress(String jobId) {
+        TaskImportJob job = taskImporter.findJob(jobId)
+                .orElseThrow(() -> new ResourceNotFoundException("Import job not found"));
+
+        CurrentUser currentUser = getCurrentUser();
+        if (!job.getOwnerId().equals(currentUser.id()) && !currentUser.admin()) {
+            throw new AccessDeniedException("You don't have permission to view this import");
+        }
+        return job.toReport();
+    }
+
+    /**
+     * Loads the tasks with a single IN query and checks ownership for all of them before any change,
+     * so a batch is applied entirely or not at all.
+     */
+    private Map<Long, Task> findAccessibleTasks(Collection<Long> ids, CurrentUser currentUser, String action) {
+        Set<Long> uniqueIds = new LinkedHashSet<>(ids);
+        Map<Long, Task> found = taskRepository.findAllById(uniqueIds).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+
+        Map<Long, Task> tasks = new LinkedHashMap<>();
+        for (Long id : uniqueIds) {
+            Task task = found.get(id);
+            if (task == null) {
+                throw new ResourceNotFoundException("Task not found: " + id);
+            }
+            if (!currentUser.canAccess(task)) {
+                throw new AccessDeniedException("You don't have permission to " + action + " task " + id);
+            }
+            tasks.put(id, task);
+        }
+        return tasks;
+    }
+
+    /**
+     * Splits the query into distinct lower-case alphanumeric terms, dropping search operators.
+     */
+    static List<String> searchTerms(String query) {
+        if (query == null) {
+            return List.of();
+        }
+        return Arrays.stream(SEARCH_TERM_SEPARATOR.split(query.toLowerCase(Locale.ROOT)))
+                .filter(term -> !term.isEmpty())
+                .distinct()
+                .limit(MAX_SEARCH_TERMS)
+                .toList();
+    }
+
+    static Task newTask(TaskRequest request, User owner) {
+        Task task = new Task();
+        task.setTitle(request.getTitle());
+        task.setDescription(request.getDescription());
+        task.setStatus(request.getStatus() != null ? request.getStatus() : TaskStatus.PENDING);
+        task.setPriority(request.getPriority() != null ? request.getPriority() : 0);
+        task.setDeadline(request.getDeadline());
+        task.setUser(owner);
+        return task;
+    }
+
+    private void applyUpdate(Task task, TaskRequest request, StatusDeltas deltas) {
+        task.setTitle(request.getTitle());
+        task.setDescription(request.getDescription());
+        if (request.getStatus() != null) {
+            deltas.move(task.getStatus(), request.getStatus());
+            task.setStatus(request.getStatus());
+        }
+        if (request.getPriority() != null) {
+            task.setPriority(request.getPriority());
+        }
+        task.setDeadline(request.getDeadline());
+    }
+
+    /**
+     * Maps a task owned by the caller using the caller's username, avoiding a lazy user load.
+     */
+    private TaskResponse mapToResponse(Task task, CurrentUser currentUser) {
+        Long ownerId = task.getUser().getId();
+        if (!ownerId.equals(currentUser.id())) {
+            return mapToResponse(task);
+        }
+        return toResponse(task, ownerId, currentUser.username());
+    }
+
+    TaskResponse mapToResponse(Task task) {
+        return toResponse(task, task.getUser().getId(), task.getUser().getUsername());
     }
 
-    private TaskResponse mapToResponse(Task task) {
+    private TaskResponse toResponse(Task task, Long userId, String username) {
         return TaskResponse.builder()
                 .id(task.getId())
                 .title(task.getTitle())
@@ -132,10 +552,11 @@ public class TaskService {
                 .status(task.getStatus())
                 .priority(task.getPriority())
                 .deadline(task.getDeadline())
-                .userId(task.getUser().getId())
-                .username(task.getUser().getUsername())
+                .userId(userId)
+                .username(username)
                 .createdAt(task.getCreatedAt())
                 .updatedAt(task.getUpdatedAt())
+                .version(task.getVersion())
                 .build();
     }
 }
\ No newline at end of file
@@ -0,0 +1,138 @@
+package com.example.taskmanagement.service;
+
+import com.example.taskmanagement.dto.TaskStatsResponse;
+import com.example.taskmanagement.entity.Task.TaskStatus;
+import com.example.taskmanagement.entity.TaskStatusCounter;
+import com.example.taskmanagement.repository.TaskPriorityCount;
+import com.example.taskmanagement.repository.TaskRepository;
+import com.example.taskmanagement.repository.TaskStatusCount;
+import com.example.taskmanagement.repository.TaskStatusCounterRepository;
+import com.example.taskmanagement.repository.TaskUserStatusCount;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TaskStatsService {
+
+    private static final int COUNTER_SLOTS = 8;
+
+    private static final Set<TaskStatus> OPEN_STATUSES = Set.of(TaskStatus.PENDING, TaskStatus.IN_PROGRESS);
+
+    private final TaskRepository taskRepository;
+    private final TaskStatusCounterRepository counterRepository;
+
+    /**
+     * Per-user statistics from two GROUP BY projections: status (with overdue) and priority.
+     */
+    @Transactional(readOnly = true)
+    public TaskStatsResponse getUserStats(Long userId) {
+        Map<TaskStatus, Long> byStatus = emptyStatusMap();
+        long overdue = 0;
+        for (TaskUserStatusCount count : taskRepository.countByStatusForUser(userId, LocalDateTime.now())) {
+            byStatus.put(count.getStatus(), count.getCount());
+            if (OPEN_STATUSES.contains(count.getStatus()) && count.getOverdue() != null) {
+                overdue += count.getOverdue();
+            }
+        }
+
+        Map<Integer, Long> byPriority = new LinkedHashMap<>();
+        for (TaskPriorityCount count : taskRepository.countByPriorityForUser(userId)) {
+            byPriority.put(count.getPriority(), count.getCount());
+        }
+
+        return new TaskStatsResponse(total(byStatus), byStatus, overdue, byPriority);
+    }
+
+    /**
+     * System-wide rollup read from the counter table (O(statuses) rows) plus an index range scan for overdue.
+     */
+    @Transactional(readOnly = true)
+    public TaskStatsResponse getSystemStats() {
+        Map<TaskStatus, Long> byStatus = emptyStatusMap();
+        for (TaskStatusCount count : counterRepository.sumByStatus()) {
+            byStatus.put(count.getStatus(), count.getCount());
+        }
+        long overdue = taskRepository.countOverdue(OPEN_STATUSES, LocalDateTime.now());
+        return new TaskStatsResponse(total(byStatus), byStatus, overdue, null);
+    }
+
+    /**
+     * Applies status count changes inside the caller's transaction. Each status hits one randomly
+     * chosen slot so concurrent writers rarely wait on the same counter row.
+     */
+    public void apply(StatusDeltas deltas) {
+        deltas.asMap().forEach((status, delta) -> {
+            if (delta != 0) {
+                counterRepository.increment(status, ThreadLocalRandom.current().nextInt(COUNTER_SLOTS), delta);
+            }
+        });
+    }
+
+    /**
+     * Recomputes the counters from the tasks table with a full GROUP BY scan. The counter rows are
+     * locked first, in the same status order {@link #apply} takes them, so writers that already moved
+     * a counter are included in the count and later ones wait for it; the rows are then overwritten in
+     * place rather than deleted and re-inserted, so no concurrent increment is lost.
+     */
+    @Transactional
+    public void rebuild() {
+        log.info("Rebuilding task status counters");
+        Map<TaskStatusCounter.Key, TaskStatusCounter> counters = new HashMap<>();
+        for (TaskStatus status : TaskStatus.values()) {
+            counterRepository.lockByStatus(status).forEach(counter -> counters.put(counter.getId(), counter));
+        }
+
+        Map<TaskStatus, Long> counts = emptyStatusMap();
+        taskRepository.countByStatus().forEach(count -> counts.put(count.getStatus(), count.getCount()));
+
+        counters.values().forEach(counter -> counter.setTaskCount(
+                counter.getId().getSlot() == 0 ? counts.get(counter.getId().getStatus()) : 0L));
+
+        List<TaskStatusCounter> missing = new ArrayList<>();
+        for (TaskStatus status : TaskStatus.values()) {
+            for (int slot = 0; slot < COUNTER_SLOTS; slot++) {
+                TaskStatusCounter.Key key = new TaskStatusCounter.Key(status, slot);
+                if (!counters.containsKey(key)) {
+                    missing.add(new TaskStatusCounter(key, slot == 0 ? counts.get(status) : 0L));
+                }
+            }
+        }
+        counterRepository.saveAll(missing);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void initializeCounters() {
+        if (counterRepository.count() != (long) TaskStatus.values().length * COUNTER_SLOTS) {
+            rebuild();
+        }
+    }
+
+    private static Map<TaskStatus, Long> emptyStatusMap() {
+        Map<TaskStatus, Long> map = new EnumMap<>(TaskStatus.class);
+        for (TaskStatus status : TaskStatus.values()) {
+            map.put(status, 0L);
+        }
+        return map;
+    }
+
+    private static long total(Map<TaskStatus, Long> byStatus) {
+        return byStatus.values().stream().mapToLong(Long::longValue).sum();
+    }
+}
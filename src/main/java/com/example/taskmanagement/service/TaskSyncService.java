@@ -0,0 +1,151 @@
+package com.example.taskmanagement.service;
+
+import com.example.taskmanagement.dto.TaskChanges;
+import com.example.taskmanagement.dto.TaskResponse;
+import com.example.taskmanagement.entity.Task;
+import com.example.taskmanagement.entity.TaskTombstone;
+import com.example.taskmanagement.exception.SyncTokenExpiredException;
+import com.example.taskmanagement.repository.TaskRepository;
+import com.example.taskmanagement.repository.TaskTombstoneRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Delta sync over tasks and deletion tombstones. Each stream is read in (timestamp, id) order past
+ * the token's position, so a resync costs in proportion to what changed, not to the dataset.
+ *
+ * <p>Timestamps are taken before commit, so a row may become visible with a timestamp slightly
+ * behind rows already served. Once a client has caught up, its position therefore only advances
+ * to rows older than the settle window; newer ones are sent again on the next call, and clients
+ * apply changes idempotently by id and version.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TaskSyncService {
+
+    private static final LocalDateTime BEGINNING = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final TaskRepository taskRepository;
+    private final TaskTombstoneRepository tombstoneRepository;
+
+    @Value("${task.sync.settle-window:5s}")
+    private Duration settleWindow;
+
+    @Value("${task.sync.tombstone-retention:30d}")
+    private Duration tombstoneRetention;
+
+    /**
+     * Writes tombstones for tasks being deleted; call within the deleting transaction.
+     */
+    public void recordDeletions(Collection<Task> tasks) {
+        LocalDateTime now = LocalDateTime.now();
+        tombstoneRepository.saveAll(tasks.stream()
+                .map(task -> new TaskTombstone(null, task.getId(), task.getUser().getId(), now))
+                .toList());
+    }
+
+    /**
+     * Writes tombstones for one owner's tasks deleted by id; call within the deleting transaction.
+     */
+    public void recordDeletions(Long userId, Collection<Long> taskIds) {
+        LocalDateTime now = LocalDateTime.now();
+        tombstoneRepository.saveAll(taskIds.stream()
+                .map(taskId -> new TaskTombstone(null, taskId, userId, now))
+                .toList());
+    }
+
+    /**
+     * @param userId owner to scope to, or {@code null} for all users
+     * @param since  token from the previous call, or {@code null} for a full initial sync
+     */
+    @Transactional(readOnly = true)
+    public TaskChanges getChanges(Long userId, String since, int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime settled = now.minus(settleWindow);
+
+        // A first sync starts from every task; deletions before it are already reflected in that snapshot
+        TaskSyncToken from = since != null
+                ? TaskSyncToken.decode(since)
+                : new TaskSyncToken(BEGINNING, 0L, settled, 0L);
+        if (from.deletedAt().isBefore(now.minus(tombstoneRetention))) {
+            throw new SyncTokenExpiredException("Sync token is older than the deletion history; run a full sync");
+        }
+
+        List<TaskResponse> changed = taskRepository.findChangedAfter(
+                userId, from.updatedAt(), from.taskId(), Limit.of(limit + 1));
+        List<TaskTombstone> deleted = tombstoneRepository.findDeletedAfter(
+                userId, from.deletedAt(), from.tombstoneId(), Limit.of(limit + 1));
+
+        boolean changedFull = changed.size() > limit;
+        boolean deletedFull = deleted.size() > limit;
+        if (changedFull) {
+            changed = changed.subList(0, limit);
+        }
+        if (deletedFull) {
+            deleted = deleted.subList(0, limit);
+        }
+
+        Position taskPosition = next(new Position(from.updatedAt(), from.taskId()), changed, changedFull,
+                settled, TaskResponse::getUpdatedAt, TaskResponse::getId);
+        Position tombstonePosition = next(new Position(from.deletedAt(), from.tombstoneId()), deleted, deletedFull,
+                settled, TaskTombstone::getDeletedAt, TaskTombstone::getId);
+        TaskSyncToken nextToken = new TaskSyncToken(taskPosition.at(), taskPosition.id(),
+                tombstonePosition.at(), tombstonePosition.id());
+
+        return new TaskChanges(
+                changed,
+                deleted.stream().map(TaskTombstone::getTaskId).toList(),
+                changedFull || deletedFull,
+                nextToken.encode());
+    }
+
+    @Scheduled(initialDelayString = "${task.sync.tombstone-purge-interval:PT1H}",
+            fixedDelayString = "${task.sync.tombstone-purge-interval:PT1H}")
+    @Transactional
+    public void purgeTombstones() {
+        int purged = tombstoneRepository.deleteOlderThan(LocalDateTime.now().minus(tombstoneRetention));
+        if (purged > 0) {
+            log.info("Purged {} task tombstones", purged);
+        }
+    }
+
+    /**
+     * While draining a full batch, moves past everything returned. Once caught up, moves to the last
+     * settled row, or to the settle boundary itself, whichever is further.
+     */
+    private static <T> Position next(Position from, List<T> rows, boolean full, LocalDateTime settled,
+                                     Function<T, LocalDateTime> at, Function<T, Long> id) {
+        if (full) {
+            T last = rows.get(rows.size() - 1);
+            return new Position(at.apply(last), id.apply(last));
+        }
+        Position next = from;
+        for (T row : rows) {
+            if (!at.apply(row).isAfter(settled)) {
+                next = new Position(at.apply(row), id.apply(row));
+            }
+        }
+        Position boundary = new Position(settled, 0L);
+        return next.isBefore(boundary) ? boundary : next;
+    }
+
+    private record Position(LocalDateTime at, Long id) {
+
+        boolean isBefore(Position other) {
+            int byTime = at.compareTo(other.at);
+            return byTime < 0 || (byTime == 0 && id < other.id);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.taskmanagement.service;
+
+import com.example.taskmanagement.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * Opaque delta-sync position: the (updatedAt, id) reached in tasks and the (deletedAt, id) reached
+ * in tombstones. Both streams are read strictly after their position.
+ */
+record TaskSyncToken(LocalDateTime updatedAt, Long taskId, LocalDateTime deletedAt, Long tombstoneId) {
+
+    private static final String SEPARATOR = "|";
+
+    String encode() {
+        String raw = String.join(SEPARATOR,
+                updatedAt.toString(), taskId.toString(), deletedAt.toString(), tombstoneId.toString());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static TaskSyncToken decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 4) {
+                throw new BadRequestException("Invalid sync token");
+            }
+            return new TaskSyncToken(LocalDateTime.parse(parts[0]), Long.valueOf(parts[1]),
+                    LocalDateTime.parse(parts[2]), Long.valueOf(parts[3]));
+        } catch (BadRequestException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            throw new BadRequestException("Invalid sync token", e);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.taskmanagement.service;
+
+import com.example.taskmanagement.dto.UserDeletionReport;
+import com.example.taskmanagement.dto.UserDeletionReport.Status;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Live progress of one user deletion, readable from other requests while the purge runs.
+ */
+class UserDeletionJob {
+
+    private final Long userId;
+    private final String username;
+    private final LocalDateTime startedAt = LocalDateTime.now();
+    private final AtomicLong tasksDeleted = new AtomicLong();
+    private final AtomicBoolean claimed = new AtomicBoolean();
+    private volatile Long tasksTotal;
+    private volatile Status status = Status.RUNNING;
+    private volatile LocalDateTime finishedAt;
+    private volatile String error;
+
+    UserDeletionJob(Long userId, String username) {
+        this.userId = userId;
+        this.username = username;
+    }
+
+    Long getUserId() {
+        return userId;
+    }
+
+    String getUsername() {
+        return username;
+    }
+
+    /**
+     * @return {@code true} for the one caller that gets to run this job
+     */
+    boolean claim() {
+        return claimed.compareAndSet(false, true);
+    }
+
+    boolean isFinished() {
+        return status != Status.RUNNING;
+    }
+
+    boolean isFailed() {
+        return status == Status.FAILED;
+    }
+
+    void tasksCounted(long total) {
+        this.tasksTotal = total;
+    }
+
+    void tasksDeleted(int count) {
+        tasksDeleted.addAndGet(count);
+    }
+
+    void finish() {
+        this.finishedAt = LocalDateTime.now();
+        this.status = Status.COMPLETED;
+    }
+
+    void fail(String error) {
+        this.error = error;
+        this.finishedAt = LocalDateTime.now();
+        this.status = Status.FAILED;
+    }
+
+    UserDeletionReport toReport() {
+        return new UserDeletionReport(userId, username, status, tasksTotal, tasksDeleted.get(),
+                startedAt, finishedAt, error);
+    }
+}
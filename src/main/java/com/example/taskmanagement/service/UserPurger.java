@@ -0,0 +1,167 @@
+package com.example.taskmanagement.service;
+
+import com.example.taskmanagement.dto.TaskEvent;
+import com.example.taskmanagement.dto.UserDeletionReport;
+import com.example.taskmanagement.entity.User;
+import com.example.taskmanagement.repository.TaskIdStatus;
+import com.example.taskmanagement.repository.TaskRepository;
+import com.example.taskmanagement.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Purges deleted users in the background. The user is disabled up front; its tasks are then deleted
+ * in fixed-size chunks, each in its own short transaction that also writes sync tombstones and
+ * adjusts the status counters, and the user row goes last. Users still marked for deletion at
+ * startup are picked up again, so an interrupted purge resumes where it stopped.
+ */
+@Component
+@Slf4j
+public class UserPurger implements DisposableBean {
+
+    private final TaskRepository taskRepository;
+    private final UserRepository userRepository;
+    private final TaskStatsService taskStatsService;
+    private final TaskSyncService taskSyncService;
+    private final TaskCache taskCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final Cache<Long, UserDeletionJob> jobs;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("user-deletion").daemon().factory());
+
+    public UserPurger(TaskRepository taskRepository,
+                      UserRepository userRepository,
+                      TaskStatsService taskStatsService,
+                      TaskSyncService taskSyncService,
+                      TaskCache taskCache,
+                      ApplicationEventPublisher eventPublisher,
+                      PlatformTransactionManager transactionManager,
+                      @Value("${user.deletion.chunk-size:1000}") int chunkSize,
+                      @Value("${user.deletion.job-retention:1h}") Duration jobRetention) {
+        this.taskRepository = taskRepository;
+        this.userRepository = userRepository;
+        this.taskStatsService = taskStatsService;
+        this.taskSyncService = taskSyncService;
+        this.taskCache = taskCache;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        // Running jobs never expire; a finished job is kept for the retention period after it ends
+        this.jobs = Caffeine.newBuilder()
+                .expireAfter(new FinishedJobExpiry<Long, UserDeletionJob>(UserDeletionJob::isFinished, jobRetention))
+                .build();
+    }
+
+    /**
+     * Starts purging a user already marked for deletion, once the calling transaction commits.
+     * Returns the running job instead if there is one; a failed job is replaced by a fresh attempt.
+     */
+    public UserDeletionReport start(Long userId, String username) {
+        UserDeletionJob job = jobs.asMap().compute(userId, (id, existing) ->
+                existing == null || existing.isFailed() ? new UserDeletionJob(id, username) : existing);
+        if (job.claim()) {
+            submitAfterCommit(job);
+        }
+        return job.toReport();
+    }
+
+    public Optional<UserDeletionReport> getProgress(Long userId) {
+        return Optional.ofNullable(jobs.getIfPresent(userId)).map(UserDeletionJob::toReport);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumePendingDeletions() {
+        List<User> pending = userRepository.findByDeletionRequestedAtIsNotNull();
+        if (!pending.isEmpty()) {
+            log.info("Resuming deletion of {} users", pending.size());
+            pending.forEach(user -> start(user.getId(), user.getUsername()));
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    private void submitAfterCommit(UserDeletionJob job) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            executor.execute(() -> purge(job));
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    executor.execute(() -> purge(job));
+                } else {
+                    jobs.asMap().remove(job.getUserId(), job);
+                }
+            }
+        });
+    }
+
+    private void purge(UserDeletionJob job) {
+        Long userId = job.getUserId();
+        try {
+            job.tasksCounted(taskRepository.countByUserId(userId));
+            log.info("Purging user {}: {} tasks", job.getUsername(), job.toReport().getTasksTotal());
+            int deleted;
+            do {
+                if (Thread.currentThread().isInterrupted()) {
+                    throw new IllegalStateException("Interrupted by shutdown; resumes on the next start");
+                }
+                deleted = transactionTemplate.execute(status -> deleteChunk(userId));
+                job.tasksDeleted(deleted);
+            } while (deleted == chunkSize);
+
+            transactionTemplate.executeWithoutResult(status ->
+                    userRepository.findById(userId).ifPresent(userRepository::delete));
+            taskCache.evictOwner(userId);
+            eventPublisher.publishEvent(TaskEvent.resync(userId));
+            job.finish();
+            log.info("Deleted user {} and {} tasks", job.getUsername(), job.toReport().getTasksDeleted());
+        } catch (RuntimeException e) {
+            log.error("Deletion of user {} failed after {} tasks", job.getUsername(),
+                    job.toReport().getTasksDeleted(), e);
+            job.fail(e.getMessage());
+        }
+        // Re-put so the finished job's retention period starts now
+        jobs.asMap().replace(userId, job, job);
+    }
+
+    private int deleteChunk(Long userId) {
+        List<TaskIdStatus> chunk = taskRepository.findIdStatusByUserId(userId, Limit.of(chunkSize));
+        if (chunk.isEmpty()) {
+            return 0;
+        }
+        List<Long> ids = chunk.stream().map(TaskIdStatus::getId).toList();
+        StatusDeltas deltas = new StatusDeltas();
+        chunk.forEach(task -> deltas.add(task.getStatus(), -1));
+
+        taskSyncService.recordDeletions(userId, ids);
+        taskRepository.deleteAllByIdInBatch(ids);
+        taskStatsService.apply(deltas);
+        taskCache.evictAll(ids);
+        return chunk.size();
+    }
+}
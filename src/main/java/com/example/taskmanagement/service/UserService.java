@@ -1,8 +1,11 @@
 package com.example.taskmanagement.service;
 
+import com.example.taskmanagement.dto.UserDeletionReport;
+import com.example.taskmanagement.entity.AuditEntry;
 import com.example.taskmanagement.entity.User;
 import com.example.taskmanagement.exception.ResourceNotFoundException;
 import com.example.taskmanagement.repository.UserRepository;
+import com.example.taskmanagement.security.AuthenticatedPrincipalCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -10,12 +13,17 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class UserService {
 
     private final UserRepository userRepository;
+    private final AuthenticatedPrincipalCache principalCache;
+    private final AuditLog auditLog;
+    private final UserPurger userPurger;
 
     public Page<User> getAllUsers(Pageable pageable) {
         log.info("Fetching all users");
@@ -27,12 +35,28 @@ public class UserService {
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
     }
 
+    /**
+     * Disables the user at once and purges its tasks in the background; repeating the call for a
+     * user already being deleted returns the job in progress.
+     */
     @Transactional
-    public void deleteUser(Long id) {
+    public UserDeletionReport deleteUser(Long id) {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
 
-        log.info("Deleting user: {}", user.getUsername());
-        userRepository.delete(user);
+        if (user.getDeletionRequestedAt() == null) {
+            log.info("Deleting user: {}", user.getUsername());
+            user.setActive(false);
+            user.setDeletionRequestedAt(LocalDateTime.now());
+            principalCache.invalidate(user.getUsername());
+            principalCache.revoke(user.getId());
+            auditLog.record(AuditEntry.Action.USER_DELETED, user.getId(), "username=" + user.getUsername());
+        }
+        return userPurger.start(user.getId(), user.getUsername());
+    }
+
+    public UserDeletionReport getDeletionProgress(Long id) {
+        return userPurger.getProgress(id)
+                .orElseThrow(() -> new ResourceNotFoundException("No deletion job for user: " + id));
     }
-}
\ No newline at end of file
+}
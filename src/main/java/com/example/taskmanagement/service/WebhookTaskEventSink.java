@@ -0,0 +1,75 @@
+package com.example.taskmanagement.service;
+
+import com.example.taskmanagement.dto.TaskEventMessage;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * POSTs each outbox batch as a JSON array to {@code task.outbox.webhook.url}. Any non-2xx response
+ * or I/O error fails the batch and it is retried with backoff.
+ */
+@Component
+@ConditionalOnProperty("task.outbox.webhook.url")
+@Slf4j
+public class WebhookTaskEventSink implements TaskEventSink {
+
+    private final URI url;
+
+    private final Duration timeout;
+
+    private final ObjectMapper objectMapper;
+
+    private final HttpClient httpClient;
+
+    public WebhookTaskEventSink(
+            @Value("${task.outbox.webhook.url}") URI url,
+            @Value("${task.outbox.webhook.timeout:10s}") Duration timeout,
+            ObjectMapper objectMapper) {
+        this.url = url;
+        this.timeout = timeout;
+        this.objectMapper = objectMapper;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(timeout)
+                .build();
+        log.info("Delivering task events to webhook {}", url);
+    }
+
+    @Override
+    public String getName() {
+        return "webhook";
+    }
+
+    @Override
+    public void deliver(List<TaskEventMessage> messages) throws IOException {
+        HttpRequest request = HttpRequest.newBuilder(url)
+                .timeout(timeout)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(messages)))
+                .build();
+
+        HttpResponse<Void> response;
+        try {
+            response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted delivering to " + url);
+        }
+        if (response.statusCode() / 100 != 2) {
+            throw new IOException("Webhook " + url + " responded " + response.statusCode());
+        }
+    }
+}
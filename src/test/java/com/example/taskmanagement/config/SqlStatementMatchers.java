@@ -0,0 +1,36 @@
+package com.example.taskmanagement.config;
+
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * MockMvc matchers over the SQL statements a request ran, as counted by {@link SqlStatementBudgetFilter}.
+ * They need the full filter chain, i.e. {@code @SpringBootTest} with {@code @AutoConfigureMockMvc}.
+ */
+public final class SqlStatementMatchers {
+
+    private SqlStatementMatchers() {
+    }
+
+    public static ResultMatcher sqlStatements(int expected) {
+        return result -> assertEquals(expected, statementCount(result), "SQL statements executed");
+    }
+
+    public static ResultMatcher sqlStatementsAtMost(int max) {
+        return result -> {
+            int actual = statementCount(result);
+            assertTrue(actual <= max, "Expected at most " + max + " SQL statements but the request ran " + actual);
+        };
+    }
+
+    public static int statementCount(MvcResult result) {
+        SqlStatementStats stats = (SqlStatementStats) result.getRequest()
+                .getAttribute(SqlStatementStats.REQUEST_ATTRIBUTE);
+        assertNotNull(stats, "No SQL statement stats recorded; is SqlStatementBudgetFilter in the chain?");
+        return stats.getStatements();
+    }
+}
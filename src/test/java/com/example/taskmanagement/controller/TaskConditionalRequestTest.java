@@ -0,0 +1,154 @@
+package com.example.taskmanagement.controller;
+
+import com.example.taskmanagement.dto.TaskRequest;
+import com.example.taskmanagement.entity.Task;
+import com.example.taskmanagement.entity.Task.TaskStatus;
+import com.example.taskmanagement.entity.User;
+import com.example.taskmanagement.repository.TaskRepository;
+import com.example.taskmanagement.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Set;
+
+import static com.example.taskmanagement.config.SqlStatementMatchers.sqlStatementsAtMost;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@WithMockUser(username = "etag-user", roles = {"USER"})
+class TaskConditionalRequestTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    private User owner;
+
+    private Long taskId;
+
+    @BeforeEach
+    void setUp() {
+        owner = new User();
+        owner.setUsername("etag-user");
+        owner.setEmail("etag-user@example.com");
+        owner.setPassword("secret");
+        owner.setRoles(Set.of(User.Role.USER));
+        owner = userRepository.save(owner);
+
+        Task task = new Task();
+        task.setTitle("Original");
+        task.setStatus(TaskStatus.PENDING);
+        task.setUser(owner);
+        taskId = taskRepository.save(task).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        taskRepository.deleteAll(taskRepository.findAll());
+        userRepository.delete(owner);
+    }
+
+    @Test
+    void getTaskById_AnswersMatchingIfNoneMatchWith304() throws Exception {
+        String etag = mockMvc.perform(get("/api/tasks/{id}", taskId))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/tasks/{id}", taskId).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void getAllTasks_RevalidatesWithOneQueryAndChangesAfterAnUpdate() throws Exception {
+        String etag = mockMvc.perform(get("/api/tasks"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/tasks").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(sqlStatementsAtMost(1));
+
+        mockMvc.perform(put("/api/tasks/{id}", taskId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request("Renamed"))))
+                .andExpect(status().isOk());
+
+        String changed = mockMvc.perform(get("/api/tasks").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].title").value("Renamed"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotEquals(etag, changed);
+    }
+
+    @Test
+    void updateTask_RejectsStaleIfMatchWith412() throws Exception {
+        String etag = mockMvc.perform(get("/api/tasks/{id}", taskId))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        String updated = mockMvc.perform(put("/api/tasks/{id}", taskId)
+                        .header(HttpHeaders.IF_MATCH, etag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request("First writer"))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.version").value(1))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(put("/api/tasks/{id}", taskId)
+                        .header(HttpHeaders.IF_MATCH, etag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request("Second writer"))))
+                .andExpect(status().isPreconditionFailed());
+
+        mockMvc.perform(get("/api/tasks/{id}", taskId).header(HttpHeaders.IF_NONE_MATCH, updated))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void updateTaskStatuses_ReturnsVersionsUsableForIfMatch() throws Exception {
+        mockMvc.perform(patch("/api/tasks/batch/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\":[" + taskId + "],\"status\":\"COMPLETED\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].version").value(1));
+
+        String etag = mockMvc.perform(get("/api/tasks/{id}", taskId))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        mockMvc.perform(put("/api/tasks/{id}", taskId)
+                        .header(HttpHeaders.IF_MATCH, etag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request("After batch"))))
+                .andExpect(status().isOk());
+    }
+
+    private static TaskRequest request(String title) {
+        TaskRequest request = new TaskRequest();
+        request.setTitle(title);
+        return request;
+    }
+}
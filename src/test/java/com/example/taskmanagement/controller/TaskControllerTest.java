@@ -16,6 +16,7 @@ import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -116,7 +117,7 @@ class TaskControllerTest {
         request.setTitle("Updated Task");
         request.setDescription("Updated Description");
 
-        when(taskService.updateTask(any(Long.class), any(TaskRequest.class)))
+        when(taskService.updateTask(any(Long.class), any(TaskRequest.class), isNull()))
                 .thenReturn(taskResponse);
 
         // Act & Assert
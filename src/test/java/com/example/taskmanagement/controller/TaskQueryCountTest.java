@@ -0,0 +1,110 @@
+package com.example.taskmanagement.controller;
+
+import com.example.taskmanagement.entity.Task;
+import com.example.taskmanagement.entity.Task.TaskStatus;
+import com.example.taskmanagement.entity.User;
+import com.example.taskmanagement.repository.TaskRepository;
+import com.example.taskmanagement.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static com.example.taskmanagement.config.SqlStatementMatchers.sqlStatements;
+import static com.example.taskmanagement.config.SqlStatementMatchers.sqlStatementsAtMost;
+import static com.example.taskmanagement.config.SqlStatementMatchers.statementCount;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Query-count budgets for the read endpoints, run against H2 so a lazy association or an N+1 load
+ * introduced behind them fails here rather than in production.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@WithMockUser(username = "query-count-user", roles = {"USER"})
+class TaskQueryCountTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    private User owner;
+
+    @BeforeEach
+    void setUp() {
+        owner = new User();
+        owner.setUsername("query-count-user");
+        owner.setEmail("query-count-user@example.com");
+        owner.setPassword("secret");
+        owner.setRoles(Set.of(User.Role.USER));
+        owner = userRepository.save(owner);
+    }
+
+    @AfterEach
+    void tearDown() {
+        taskRepository.deleteAll(taskRepository.findAll());
+        userRepository.delete(owner);
+    }
+
+    @Test
+    void getAllTasks_RunsTheSameStatementsWhateverThePageHolds() throws Exception {
+        createTasks(2);
+        int smallPage = statementCount(mockMvc.perform(get("/api/tasks").param("size", "50"))
+                .andExpect(status().isOk())
+                .andReturn());
+
+        createTasks(30);
+        mockMvc.perform(get("/api/tasks").param("size", "50"))
+                .andExpect(status().isOk())
+                .andExpect(sqlStatementsAtMost(smallPage));
+
+        // Full page: the total needs its count query on top
+        mockMvc.perform(get("/api/tasks").param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(sqlStatementsAtMost(smallPage + 1));
+    }
+
+    @Test
+    void getTaskById_IsServedFromCachesOnceWarm() throws Exception {
+        Long id = createTasks(1).get(0).getId();
+
+        // Cold: the task and its owner in one query, plus the caller's roles
+        mockMvc.perform(get("/api/tasks/{id}", id))
+                .andExpect(status().isOk())
+                .andExpect(sqlStatementsAtMost(2));
+
+        // Warm: the task comes from the task cache and the caller from the second-level cache
+        mockMvc.perform(get("/api/tasks/{id}", id))
+                .andExpect(status().isOk())
+                .andExpect(sqlStatements(0));
+    }
+
+    private List<Task> createTasks(int count) {
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Task task = new Task();
+            task.setTitle("Counted task " + i);
+            task.setStatus(TaskStatus.PENDING);
+            task.setPriority(i % 3);
+            task.setUser(owner);
+            tasks.add(task);
+        }
+        return taskRepository.saveAll(tasks);
+    }
+}
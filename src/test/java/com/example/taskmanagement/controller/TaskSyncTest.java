@@ -0,0 +1,142 @@
+package com.example.taskmanagement.controller;
+
+import com.example.taskmanagement.dto.TaskRequest;
+import com.example.taskmanagement.entity.Task;
+import com.example.taskmanagement.entity.Task.TaskStatus;
+import com.example.taskmanagement.entity.User;
+import com.example.taskmanagement.repository.TaskRepository;
+import com.example.taskmanagement.repository.TaskTombstoneRepository;
+import com.example.taskmanagement.repository.UserRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = "task.sync.settle-window=0s")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@WithMockUser(username = "sync-user", roles = {"USER"})
+class TaskSyncTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskTombstoneRepository tombstoneRepository;
+
+    private User owner;
+
+    private final List<Long> taskIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        owner = new User();
+        owner.setUsername("sync-user");
+        owner.setEmail("sync-user@example.com");
+        owner.setPassword("secret");
+        owner.setRoles(Set.of(User.Role.USER));
+        owner = userRepository.save(owner);
+
+        for (int i = 0; i < 3; i++) {
+            Task task = new Task();
+            task.setTitle("Task " + i);
+            task.setStatus(TaskStatus.PENDING);
+            task.setUser(owner);
+            taskIds.add(taskRepository.save(task).getId());
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        taskRepository.deleteAll(taskRepository.findAll());
+        tombstoneRepository.deleteAll();
+        userRepository.delete(owner);
+    }
+
+    @Test
+    void getChanges_PagesThroughInitialSyncWithContinuationTokens() throws Exception {
+        JsonNode first = body(changes(null, 2)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changed.length()").value(2))
+                .andExpect(jsonPath("$.hasMore").value(true)));
+
+        JsonNode second = body(changes(first.get("nextToken").asText(), 2)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changed.length()").value(1))
+                .andExpect(jsonPath("$.changed[0].id").value(taskIds.get(2)))
+                .andExpect(jsonPath("$.hasMore").value(false)));
+
+        changes(second.get("nextToken").asText(), 2)
+                .andExpect(jsonPath("$.changed").isEmpty())
+                .andExpect(jsonPath("$.deletedIds").isEmpty());
+    }
+
+    @Test
+    void getChanges_ReturnsUpdatesAndDeletionsSinceToken() throws Exception {
+        String token = body(changes(null, 100)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changed.length()").value(3)))
+                .get("nextToken").asText();
+
+        TaskRequest update = new TaskRequest();
+        update.setTitle("Renamed");
+        mockMvc.perform(put("/api/tasks/{id}", taskIds.get(0))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(update)))
+                .andExpect(status().isOk());
+        mockMvc.perform(delete("/api/tasks/{id}", taskIds.get(1)))
+                .andExpect(status().isOk());
+
+        changes(token, 100)
+                .andExpect(jsonPath("$.changed.length()").value(1))
+                .andExpect(jsonPath("$.changed[0].id").value(taskIds.get(0)))
+                .andExpect(jsonPath("$.changed[0].title").value("Renamed"))
+                .andExpect(jsonPath("$.deletedIds.length()").value(1))
+                .andExpect(jsonPath("$.deletedIds[0]").value(taskIds.get(1)));
+    }
+
+    @Test
+    void getChanges_RejectsMalformedToken() throws Exception {
+        changes("not-a-token", 10)
+                .andExpect(status().isBadRequest());
+    }
+
+    private ResultActions changes(String since, int limit) throws Exception {
+        var request = get("/api/tasks/changes").param("limit", String.valueOf(limit));
+        if (since != null) {
+            request.param("since", since);
+        }
+        return mockMvc.perform(request);
+    }
+
+    private JsonNode body(ResultActions result) throws Exception {
+        return objectMapper.readTree(result.andReturn().getResponse().getContentAsString());
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.taskmanagement.controller;
+
+import com.example.taskmanagement.entity.Task;
+import com.example.taskmanagement.entity.Task.TaskStatus;
+import com.example.taskmanagement.entity.User;
+import com.example.taskmanagement.repository.TaskRepository;
+import com.example.taskmanagement.repository.TaskTombstoneRepository;
+import com.example.taskmanagement.repository.UserRepository;
+import com.example.taskmanagement.service.TaskStatsService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = "user.deletion.chunk-size=2")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@WithMockUser(username = "admin", roles = {"ADMIN"})
+class UserDeletionTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskTombstoneRepository tombstoneRepository;
+
+    @Autowired
+    private TaskStatsService taskStatsService;
+
+    private User owner;
+
+    @BeforeEach
+    void setUp() {
+        owner = new User();
+        owner.setUsername("leaving-user");
+        owner.setEmail("leaving-user@example.com");
+        owner.setPassword("secret");
+        owner.setRoles(Set.of(User.Role.USER));
+        owner = userRepository.save(owner);
+
+        for (int i = 0; i < 5; i++) {
+            Task task = new Task();
+            task.setTitle("Task " + i);
+            task.setStatus(TaskStatus.PENDING);
+            task.setUser(owner);
+            taskRepository.save(task);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        taskRepository.deleteAll(taskRepository.findAll());
+        tombstoneRepository.deleteAll();
+        userRepository.findById(owner.getId()).ifPresent(userRepository::delete);
+    }
+
+    @Test
+    void deleteUser_DisablesAtOnceThenPurgesTasksInChunks() throws Exception {
+        long pendingBefore = taskStatsService.getSystemStats().getByStatus().get(TaskStatus.PENDING);
+
+        mockMvc.perform(delete("/api/admin/users/{id}", owner.getId()))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.data.userId").value(owner.getId()))
+                .andExpect(jsonPath("$.data.status").value("RUNNING"));
+
+        awaitCompleted();
+        mockMvc.perform(get("/api/admin/users/{id}/deletion", owner.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.tasksTotal").value(5))
+                .andExpect(jsonPath("$.data.tasksDeleted").value(5));
+
+        assertTrue(userRepository.findById(owner.getId()).isEmpty());
+        assertEquals(0, taskRepository.countByUserId(owner.getId()));
+        assertEquals(5, tombstoneRepository.count());
+        assertEquals(pendingBefore - 5, taskStatsService.getSystemStats().getByStatus().get(TaskStatus.PENDING));
+    }
+
+    @Test
+    void getUserDeletion_NotFoundWithoutJob() throws Exception {
+        mockMvc.perform(get("/api/admin/users/{id}/deletion", owner.getId()))
+                .andExpect(status().isNotFound());
+    }
+
+    private void awaitCompleted() throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < deadline) {
+            String body = mockMvc.perform(get("/api/admin/users/{id}/deletion", owner.getId()))
+                    .andReturn().getResponse().getContentAsString();
+            if (!body.contains("\"RUNNING\"")) {
+                break;
+            }
+            Thread.sleep(20);
+        }
+        mockMvc.perform(get("/api/admin/users/{id}/deletion", owner.getId()))
+                .andExpect(jsonPath("$.data.status").value("COMPLETED"));
+    }
+}
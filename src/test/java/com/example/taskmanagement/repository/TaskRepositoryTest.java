@@ -0,0 +1,234 @@
+package com.example.taskmanagement.repository;
+
+import com.example.taskmanagement.dto.TaskResponse;
+import com.example.taskmanagement.entity.Task;
+import com.example.taskmanagement.entity.Task.TaskStatus;
+import com.example.taskmanagement.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class TaskRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    private User owner;
+
+    @BeforeEach
+    void setUp() {
+        owner = new User();
+        owner.setUsername("owner");
+        owner.setEmail("owner@example.com");
+        owner.setPassword("secret");
+        owner.setRoles(Set.of(User.Role.USER));
+        entityManager.persist(owner);
+
+        User other = new User();
+        other.setUsername("other");
+        other.setEmail("other@example.com");
+        other.setPassword("secret");
+        entityManager.persist(other);
+
+        LocalDateTime base = LocalDateTime.of(2025, 1, 1, 9, 0);
+        for (int i = 0; i < 23; i++) {
+            Task task = new Task();
+            task.setTitle("Task " + i);
+            task.setStatus(i % 3 == 0 ? TaskStatus.COMPLETED : TaskStatus.PENDING);
+            task.setPriority(i % 4);
+            task.setDeadline(i % 5 == 0 ? null : base.plusDays(i % 6));
+            task.setUser(i % 7 == 0 ? other : owner);
+            entityManager.persist(task);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void findPageAfter_WalksEveryOrderingWithoutGapsOrDuplicates() {
+        for (TaskSortField sortField : TaskSortField.values()) {
+            for (boolean ascending : new boolean[]{true, false}) {
+                List<TaskResponse> expected = taskRepository.findAllResponses(Pageable.unpaged()).stream()
+                        .filter(task -> task.getUserId().equals(owner.getId()))
+                        .sorted(ordering(sortField, ascending))
+                        .toList();
+
+                List<TaskResponse> walked = walk(owner.getId(), null, sortField, ascending, 4);
+
+                assertEquals(ids(expected), ids(walked), sortField + (ascending ? " ASC" : " DESC"));
+            }
+        }
+    }
+
+    @Test
+    void findPageAfter_AppliesStatusFilter() {
+        List<TaskResponse> walked = walk(owner.getId(), TaskStatus.COMPLETED, TaskSortField.CREATED_AT, false, 2);
+
+        assertFalse(walked.isEmpty());
+        assertTrue(walked.stream().allMatch(task -> task.getStatus() == TaskStatus.COMPLETED));
+        assertTrue(walked.stream().allMatch(task -> task.getUserId().equals(owner.getId())));
+        assertTrue(walked.stream().allMatch(task -> task.getUsername().equals("owner")));
+    }
+
+    @Test
+    void findResponsesByUserIdAndStatus_ProjectsOwnerInOneQuery() {
+        List<TaskResponse> page = taskRepository.findResponsesByUserIdAndStatus(owner.getId(), TaskStatus.PENDING,
+                PageRequest.of(0, 5, Sort.by("priority").descending())).getContent();
+
+        assertEquals(5, page.size());
+        assertTrue(page.stream().allMatch(task -> task.getStatus() == TaskStatus.PENDING));
+        assertTrue(page.stream().allMatch(task -> task.getUsername().equals("owner")));
+        assertTrue(page.get(0).getPriority() >= page.get(4).getPriority());
+    }
+
+    @Test
+    void updateStatusWhere_ChangesOnlyMatchingOwnedRows() {
+        LocalDateTime cutoff = LocalDateTime.of(2025, 1, 4, 0, 0);
+        List<Task> before = taskRepository.findAll();
+        long expected = before.stream()
+                .filter(task -> task.getUser().getId().equals(owner.getId()))
+                .filter(task -> task.getStatus() == TaskStatus.PENDING)
+                .filter(task -> task.getDeadline() != null && task.getDeadline().isBefore(cutoff))
+                .count();
+
+        int updated = taskRepository.updateStatusWhere(TaskStatus.CANCELLED, owner.getId(),
+                TaskStatus.PENDING, cutoff, LocalDateTime.now());
+
+        assertTrue(expected > 0);
+        assertEquals(expected, updated);
+        assertEquals(expected, taskRepository.findAll().stream()
+                .filter(task -> task.getStatus() == TaskStatus.CANCELLED)
+                .count());
+    }
+
+    @Test
+    void updateStatusWhereIdIn_IgnoresOtherUsersTasks() {
+        List<Long> allIds = taskRepository.findAll().stream().map(Task::getId).toList();
+
+        int updated = taskRepository.updateStatusWhereIdIn(allIds, TaskStatus.IN_PROGRESS, owner.getId(),
+                null, null, LocalDateTime.now());
+
+        long owned = taskRepository.findAll().stream()
+                .filter(task -> task.getUser().getId().equals(owner.getId()))
+                .count();
+        assertEquals(owned, updated);
+    }
+
+    @Test
+    void updateStatusWhere_CountsOnlyRowsInTheGivenSourceStatus() {
+        LocalDateTime cutoff = LocalDateTime.of(2025, 1, 4, 0, 0);
+        long pending = taskRepository.findAll().stream()
+                .filter(task -> task.getUser().getId().equals(owner.getId()))
+                .filter(task -> task.getStatus() == TaskStatus.PENDING && task.getDeadline() != null
+                        && task.getDeadline().isBefore(cutoff))
+                .count();
+
+        int updated = taskRepository.updateStatusWhere(TaskStatus.CANCELLED, owner.getId(),
+                TaskStatus.PENDING, cutoff, LocalDateTime.now());
+
+        assertEquals(pending, updated);
+    }
+
+    @Test
+    void countByStatusForUser_GroupsOwnedRowsByStatus() {
+        List<TaskUserStatusCount> counts = taskRepository.countByStatusForUser(owner.getId(),
+                LocalDateTime.of(2025, 1, 4, 0, 0));
+
+        Map<TaskStatus, Long> byStatus = counts.stream()
+                .collect(Collectors.toMap(TaskUserStatusCount::getStatus, TaskUserStatusCount::getCount));
+        assertEquals(Map.of(TaskStatus.PENDING, 13L, TaskStatus.COMPLETED, 6L), byStatus);
+        assertTrue(counts.stream().allMatch(count -> count.getOverdue() <= count.getCount()));
+    }
+
+    @Test
+    void searchIds_RanksTitleMatchesFirstAndRequiresEveryTerm() {
+        Task inDescription = persistTask("Weekly sync", "Prepare the quarterly report draft");
+        Task inTitle = persistTask("Quarterly report", "Numbers for finance");
+        persistTask("Quarterly planning", "No match for the second term");
+        entityManager.flush();
+
+        List<Long> ids = taskRepository.searchIds(owner.getId(), null, List.of("quarterly", "report"), 10);
+
+        assertEquals(List.of(inTitle.getId(), inDescription.getId()), ids);
+        assertTrue(taskRepository.searchIds(owner.getId() + 1000, null, List.of("report"), 10).isEmpty());
+    }
+
+    @Test
+    void streamResponsesByUserId_StreamsOwnedRowsInIdOrder() {
+        List<TaskResponse> streamed;
+        try (Stream<TaskResponse> tasks = taskRepository.streamResponsesByUserId(owner.getId())) {
+            streamed = tasks.toList();
+        }
+
+        assertEquals(19, streamed.size());
+        assertTrue(streamed.stream().allMatch(task -> task.getUsername().equals("owner")));
+        assertEquals(ids(streamed), ids(streamed).stream().sorted().toList());
+    }
+
+    private Task persistTask(String title, String description) {
+        Task task = new Task();
+        task.setTitle(title);
+        task.setDescription(description);
+        task.setUser(owner);
+        return entityManager.persist(task);
+    }
+
+    private List<TaskResponse> walk(Long userId, TaskStatus status, TaskSortField sortField, boolean ascending, int size) {
+        List<TaskResponse> result = new ArrayList<>();
+        Object afterValue = null;
+        Long afterId = null;
+        while (true) {
+            List<TaskResponse> page = taskRepository.findPageAfter(userId, status, sortField, ascending,
+                    afterValue, afterId, size);
+            result.addAll(page);
+            if (page.size() < size) {
+                return result;
+            }
+            TaskResponse last = page.get(page.size() - 1);
+            afterValue = sortValue(last, sortField);
+            afterId = last.getId();
+        }
+    }
+
+    private static Object sortValue(TaskResponse task, TaskSortField sortField) {
+        return switch (sortField) {
+            case CREATED_AT -> task.getCreatedAt();
+            case PRIORITY -> task.getPriority();
+            case DEADLINE -> task.getDeadline();
+        };
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Comparator<TaskResponse> ordering(TaskSortField sortField, boolean ascending) {
+        Comparator<TaskResponse> byKey = Comparator.comparing(
+                task -> (Comparable) sortValue(task, sortField), Comparator.nullsFirst(Comparator.naturalOrder()));
+        Comparator<TaskResponse> comparator = byKey.thenComparing(TaskResponse::getId);
+        return ascending ? comparator : comparator.reversed();
+    }
+
+    private static List<Long> ids(List<TaskResponse> tasks) {
+        return tasks.stream().map(TaskResponse::getId).toList();
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.taskmanagement.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuthenticatedPrincipalCacheTest {
+
+    private AuthenticatedPrincipalCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new AuthenticatedPrincipalCache(100, Duration.ofMinutes(5), 86_400_000L, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void invalidate_DuringLoadKeepsThePreChangePrincipalOutOfTheCache() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch invalidated = new CountDownLatch(1);
+
+        CompletableFuture<UserDetails> slowLogin = CompletableFuture.supplyAsync(() -> cache.get("alice", username -> {
+            loading.countDown();
+            await(invalidated);
+            return principal(username, true);
+        }));
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+        cache.invalidate("alice");
+        invalidated.countDown();
+
+        assertTrue(slowLogin.get(5, TimeUnit.SECONDS).isEnabled());
+        assertFalse(cache.get("alice", username -> principal(username, false)).isEnabled());
+    }
+
+    @Test
+    void get_ServesHitsFromCache() {
+        UserDetails first = cache.get("bob", username -> principal(username, true));
+
+        assertSame(first, cache.get("bob", username -> principal(username, false)));
+    }
+
+    private static UserDetails principal(String username, boolean enabled) {
+        return User.withUsername(username).password("secret").roles("USER").disabled(!enabled).build();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
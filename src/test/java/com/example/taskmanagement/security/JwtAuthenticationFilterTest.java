@@ -0,0 +1,76 @@
+package com.example.taskmanagement.security;
+
+import com.example.taskmanagement.entity.User;
+import com.example.taskmanagement.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Set;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class JwtAuthenticationFilterTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserDetailsServiceImpl userDetailsService;
+
+    @Autowired
+    private JwtUtils jwtUtils;
+
+    @Autowired
+    private AuthenticatedPrincipalCache principalCache;
+
+    @AfterEach
+    void tearDown() {
+        userRepository.findByUsername("jwt-user").ifPresent(userRepository::delete);
+        principalCache.invalidate("jwt-user");
+    }
+
+    @Test
+    void rejectsTokenOfUserDeactivatedElsewhere() throws Exception {
+        // Arrange: a token issued while active; the revocation was recorded on another instance
+        User user = userRepository.save(user());
+        String token = jwtUtils.generateJwtToken(authentication());
+        mockMvc.perform(get("/api/tasks").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+
+        // Act
+        user.setActive(false);
+        userRepository.save(user);
+        principalCache.invalidate(user.getUsername());
+
+        // Assert: the request goes on anonymous, which this app answers with 403
+        mockMvc.perform(get("/api/tasks").header("Authorization", "Bearer " + token))
+                .andExpect(status().isForbidden());
+    }
+
+    private UsernamePasswordAuthenticationToken authentication() {
+        AuthenticatedUser principal = (AuthenticatedUser) userDetailsService.loadUserByUsername("jwt-user");
+        return new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+    }
+
+    private static User user() {
+        User user = new User();
+        user.setUsername("jwt-user");
+        user.setEmail("jwt-user@example.com");
+        user.setPassword("secret");
+        user.setRoles(Set.of(User.Role.USER));
+        return user;
+    }
+}
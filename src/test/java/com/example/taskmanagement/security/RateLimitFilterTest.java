@@ -0,0 +1,73 @@
+package com.example.taskmanagement.security;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = {
+        "rate-limit.enabled=true",
+        "rate-limit.rules=ip:/api/auth/**=2/1m,user:/api/tasks/**=3/1m"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class RateLimitFilterTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void login_RejectedPerClientIpOnceBucketIsEmpty() throws Exception {
+        for (int i = 0; i < 2; i++) {
+            int status = mockMvc.perform(login("10.0.0.1")).andReturn().getResponse().getStatus();
+            assertNotEquals(429, status);
+        }
+
+        mockMvc.perform(login("10.0.0.1"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "30"))
+                .andExpect(jsonPath("$.status").value(429));
+        assertNotEquals(429, mockMvc.perform(login("10.0.0.2")).andReturn().getResponse().getStatus());
+        assertEquals(1, meterRegistry.get("http.ratelimit.rejected").tag("rule", "/api/auth/**").counter().count());
+    }
+
+    @Test
+    void tasks_LimitedPerUserNotPerIp() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            int status = mockMvc.perform(get("/api/tasks").with(user("busy-client")))
+                    .andReturn().getResponse().getStatus();
+            assertNotEquals(429, status);
+        }
+
+        mockMvc.perform(get("/api/tasks").with(user("busy-client")))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "20"));
+        int otherUser = mockMvc.perform(get("/api/tasks").with(user("quiet-client")))
+                .andReturn().getResponse().getStatus();
+        assertNotEquals(429, otherUser);
+    }
+
+    private static MockHttpServletRequestBuilder login(String clientIp) {
+        return post("/api/auth/login")
+                .with(request -> {
+                    request.setRemoteAddr(clientIp);
+                    return request;
+                })
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"username\":\"nobody\",\"password\":\"wrong-password\"}");
+    }
+}
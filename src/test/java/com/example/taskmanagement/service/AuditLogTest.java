@@ -0,0 +1,179 @@
+package com.example.taskmanagement.service;
+
+import com.example.taskmanagement.dto.CursorPage;
+import com.example.taskmanagement.entity.AuditEntry;
+import com.example.taskmanagement.entity.AuditEntry.Action;
+import com.example.taskmanagement.repository.AuditEntryRepository;
+import com.example.taskmanagement.service.AuditLog.OverflowPolicy;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.data.domain.Limit;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AuditLogTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    private final AuditEntryRepository repository = mock(AuditEntryRepository.class);
+
+    private final List<List<AuditEntry>> batches = new CopyOnWriteArrayList<>();
+
+    private final List<AuditLog> auditLogs = new ArrayList<>();
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeEach
+    void setUp() {
+        when(repository.saveAll(anyList())).thenAnswer(invocation -> {
+            batches.add(List.copyOf(invocation.<List<AuditEntry>>getArgument(0)));
+            return invocation.getArgument(0);
+        });
+        SecurityContextHolder.setContext(new SecurityContextImpl(
+                new UsernamePasswordAuthenticationToken("auditor", null, List.of())));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        SecurityContextHolder.clearContext();
+        for (AuditLog auditLog : auditLogs) {
+            auditLog.destroy();
+        }
+    }
+
+    @Test
+    void record_WritesEntriesInBatchesWithTheActor() throws Exception {
+        // Arrange
+        AuditLog auditLog = auditLog(100, Duration.ofMillis(50), OverflowPolicy.DROP);
+
+        // Act
+        for (long id = 1; id <= 3; id++) {
+            auditLog.record(Action.TASK_DELETED, id, null);
+        }
+
+        // Assert
+        List<AuditEntry> written = awaitWritten(3);
+        assertEquals(List.of(1L, 2L, 3L), written.stream().map(AuditEntry::getEntityId).toList());
+        assertTrue(written.stream().allMatch(entry -> "auditor".equals(entry.getActor())
+                && entry.getEntityType() == AuditEntry.EntityType.TASK));
+    }
+
+    @Test
+    void record_DropPolicyDiscardsWhenQueueIsFull() {
+        // Arrange
+        AuditLog auditLog = auditLog(0, Duration.ofSeconds(30), OverflowPolicy.DROP);
+
+        // Act
+        for (long id = 1; id <= 3; id++) {
+            auditLog.record(Action.TASK_DELETED, id, null);
+        }
+
+        // Assert
+        assertEquals(3, meterRegistry.get("audit.dropped").counter().count());
+        assertEquals(List.of(), written());
+    }
+
+    @Test
+    void record_BlockPolicyWaitsForTheWriterInsteadOfDropping() throws Exception {
+        // Arrange
+        AuditLog auditLog = auditLog(1, Duration.ofMillis(50), OverflowPolicy.BLOCK);
+
+        // Act
+        for (long id = 1; id <= 3; id++) {
+            auditLog.record(Action.TASK_DELETED, id, null);
+        }
+
+        // Assert
+        assertEquals(3, awaitWritten(3).size());
+        assertEquals(0, meterRegistry.get("audit.dropped").counter().count());
+    }
+
+    @Test
+    void record_SpillPolicyAppendsToFileAndReplaysIt() throws Exception {
+        // Arrange
+        AuditLog auditLog = auditLog(0, Duration.ofSeconds(30), OverflowPolicy.SPILL);
+
+        // Act
+        for (long id = 1; id <= 3; id++) {
+            auditLog.record(Action.TASK_DELETED, id, "task " + id);
+        }
+
+        // Assert
+        Path spillFile = tempDir.resolve("audit-spill.ndjson");
+        assertEquals(3, Files.readAllLines(spillFile).size());
+        assertEquals(3, meterRegistry.get("audit.spilled").counter().count());
+
+        // A writer that finds the file while idle loads it into the table
+        auditLog(100, Duration.ofMillis(50), OverflowPolicy.SPILL);
+        List<AuditEntry> written = awaitWritten(3);
+        assertEquals(List.of("task 1", "task 2", "task 3"), written.stream().map(AuditEntry::getDetails).toList());
+        assertFalse(Files.exists(spillFile));
+    }
+
+    @Test
+    void getHistory_PagesNewestFirstByIdCursor() {
+        // Arrange
+        AuditLog auditLog = auditLog(100, Duration.ofSeconds(30), OverflowPolicy.DROP);
+        List<AuditEntry> newest = LongStream.of(9, 8, 7)
+                .mapToObj(id -> new AuditEntry(id, LocalDateTime.now(), 1L, "auditor", Action.TASK_UPDATED,
+                        AuditEntry.EntityType.TASK, 5L, null))
+                .toList();
+        when(repository.findHistory(isNull(), isNull(), isNull(), isNull(), any(Limit.class))).thenReturn(newest);
+
+        // Act
+        CursorPage<AuditEntry> page = auditLog.getHistory(null, null, null, null, 2);
+
+        // Assert
+        assertEquals(2, page.getSize());
+        assertTrue(page.isHasNext());
+        assertEquals("8", page.getNextCursor());
+    }
+
+    private AuditLog auditLog(int capacity, Duration flushInterval, OverflowPolicy overflowPolicy) {
+        AuditLog auditLog = new AuditLog(repository, mock(PlatformTransactionManager.class), objectMapper,
+                capacity, 50, flushInterval, overflowPolicy, Duration.ofSeconds(5),
+                tempDir.resolve("audit-spill.ndjson"), meterRegistry);
+        auditLogs.add(auditLog);
+        return auditLog;
+    }
+
+    private List<AuditEntry> awaitWritten(int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (written().size() < count && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(count, written().size());
+        return written();
+    }
+
+    private List<AuditEntry> written() {
+        return batches.stream().flatMap(List::stream).toList();
+    }
+}
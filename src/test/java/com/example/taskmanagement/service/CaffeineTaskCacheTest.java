@@ -0,0 +1,94 @@
+package com.example.taskmanagement.service;
+
+import com.example.taskmanagement.dto.TaskResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CaffeineTaskCacheTest {
+
+    private CaffeineTaskCache cache;
+
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        cache = new CaffeineTaskCache(100, Duration.ofMinutes(5), new SimpleMeterRegistry());
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    void get_LoadsOnceAndServesHitsFromCache() {
+        TaskResponse first = cache.get(1L, id -> task(id, 10L, "v1"));
+        TaskResponse second = cache.get(1L, id -> task(id, 10L, "v2"));
+
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void get_DoesNotCacheFailedLoads() {
+        assertThrows(IllegalStateException.class, () -> cache.get(1L, id -> {
+            throw new IllegalStateException("boom");
+        }));
+
+        assertEquals("v1", cache.get(1L, id -> task(id, 10L, "v1")).getTitle());
+    }
+
+    @Test
+    void evict_DuringLoadKeepsTheStaleResultOutOfTheCache() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch evicted = new CountDownLatch(1);
+
+        CompletableFuture<TaskResponse> slowRead = CompletableFuture.supplyAsync(() -> cache.get(1L, id -> {
+            loading.countDown();
+            await(evicted);
+            return task(id, 10L, "stale");
+        }));
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+        cache.evict(1L);
+        evicted.countDown();
+
+        assertEquals("stale", slowRead.get(5, TimeUnit.SECONDS).getTitle());
+        assertEquals("fresh", cache.get(1L, id -> task(id, 10L, "fresh")).getTitle());
+    }
+
+    @Test
+    void evictOwner_RemovesOnlyThatUsersTasks() {
+        cache.get(1L, id -> task(id, 10L, "a"));
+        cache.get(2L, id -> task(id, 20L, "b"));
+
+        cache.evictOwner(10L);
+
+        assertEquals("a2", cache.get(1L, id -> task(id, 10L, "a2")).getTitle());
+        assertEquals("b", cache.get(2L, id -> task(id, 20L, "b2")).getTitle());
+        cache.evictAll(List.of(1L, 2L));
+        assertEquals("b3", cache.get(2L, id -> task(id, 20L, "b3")).getTitle());
+    }
+
+    private TaskResponse task(Long id, Long ownerId, String title) {
+        loads.incrementAndGet();
+        TaskResponse task = new TaskResponse();
+        task.setId(id);
+        task.setUserId(ownerId);
+        task.setTitle(title);
+        return task;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package com.example.taskmanagement.service;
+
+import com.example.taskmanagement.dto.TaskEvent;
+import com.example.taskmanagement.dto.TaskResponse;
+import com.example.taskmanagement.service.TaskEventBroadcaster.OverflowPolicy;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskEventBroadcasterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private TaskEventBroadcaster broadcaster;
+
+    @AfterEach
+    void tearDown() {
+        broadcaster.destroy();
+    }
+
+    @Test
+    void onTaskEvent_DeliversToOwnerAndMatchingFirehoseOnly() throws Exception {
+        // Arrange
+        broadcaster = broadcaster(16, OverflowPolicy.DISCONNECT);
+        RecordingEmitter owner = new RecordingEmitter(null);
+        RecordingEmitter otherUser = new RecordingEmitter(null);
+        RecordingEmitter deletions = new RecordingEmitter(null);
+        broadcaster.register(owner, 1L, Set.of(), false);
+        broadcaster.register(otherUser, 2L, Set.of(), false);
+        broadcaster.register(deletions, null, Set.of(TaskEvent.Type.DELETED), true);
+
+        // Act
+        broadcaster.onTaskEvent(TaskEvent.created(task(10L, 1L)));
+        broadcaster.onTaskEvent(TaskEvent.deleted(10L, 1L));
+
+        // Assert
+        owner.awaitEvents(2);
+        deletions.awaitEvents(1);
+        assertEquals(List.of("task.created", "task.deleted"), owner.events());
+        assertEquals(List.of("task.deleted"), deletions.events());
+        assertEquals(List.of(), otherUser.events());
+        assertEquals(3, meterRegistry.get("task.events.subscribers").gauge().value());
+    }
+
+    @Test
+    void onTaskEvent_DisconnectsSubscriberWhoseBufferIsFull() throws Exception {
+        // Arrange
+        broadcaster = broadcaster(2, OverflowPolicy.DISCONNECT);
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingEmitter slow = new RecordingEmitter(release);
+        broadcaster.register(slow, 1L, Set.of(), false);
+        slow.awaitBlocked();
+
+        // Act
+        for (long id = 1; id <= 3; id++) {
+            broadcaster.onTaskEvent(TaskEvent.deleted(id, 1L));
+        }
+
+        // Assert
+        assertEquals(1, meterRegistry.get("task.events.disconnected").counter().count());
+        assertEquals(0, meterRegistry.get("task.events.subscribers").gauge().value());
+        release.countDown();
+    }
+
+    @Test
+    void onTaskEvent_DisconnectNeverWaitsForABlockedSend() throws Exception {
+        // Arrange
+        broadcaster = broadcaster(1, OverflowPolicy.DISCONNECT);
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingEmitter slow = new RecordingEmitter(release);
+        broadcaster.register(slow, 1L, Set.of(), false);
+        slow.awaitBlocked();
+
+        // Act
+        CompletableFuture<Void> publishing = CompletableFuture.runAsync(() -> {
+            for (long id = 1; id <= 3; id++) {
+                broadcaster.onTaskEvent(TaskEvent.deleted(id, 1L));
+            }
+        });
+
+        // Assert
+        publishing.get(1, TimeUnit.SECONDS);
+        assertFalse(slow.isCompleted());
+        release.countDown();
+        slow.awaitCompleted();
+    }
+
+    @Test
+    void onTaskEvent_DropPolicySendsResyncOnceSubscriberCatchesUp() throws Exception {
+        // Arrange
+        broadcaster = broadcaster(2, OverflowPolicy.DROP);
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingEmitter slow = new RecordingEmitter(release);
+        broadcaster.register(slow, 1L, Set.of(), false);
+        slow.awaitBlocked();
+
+        // Act
+        for (long id = 1; id <= 4; id++) {
+            broadcaster.onTaskEvent(TaskEvent.deleted(id, 1L));
+        }
+        release.countDown();
+
+        // Assert
+        slow.awaitEvents(3);
+        assertEquals(List.of("task.deleted", "task.deleted", "task.resync"), slow.events());
+        assertEquals(2, meterRegistry.get("task.events.dropped").counter().count());
+        assertEquals(1, meterRegistry.get("task.events.subscribers").gauge().value());
+    }
+
+    private TaskEventBroadcaster broadcaster(int bufferSize, OverflowPolicy overflowPolicy) {
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        return new TaskEventBroadcaster(objectMapper, Duration.ofMinutes(1), bufferSize, 100, overflowPolicy,
+                4, meterRegistry);
+    }
+
+    private static TaskResponse task(Long id, Long userId) {
+        TaskResponse task = new TaskResponse();
+        task.setId(id);
+        task.setTitle("Task " + id);
+        task.setUserId(userId);
+        return task;
+    }
+
+    /**
+     * Records the event names written to the stream; with a latch, the first write (the keepalive
+     * sent on subscribe) blocks until released, standing in for a client that stopped reading.
+     * Send and complete share the emitter's monitor, as they do in {@code ResponseBodyEmitter}.
+     */
+    private static final class RecordingEmitter extends SseEmitter {
+
+        private final List<String> frames = new CopyOnWriteArrayList<>();
+
+        private final CountDownLatch release;
+
+        private final CountDownLatch blocked = new CountDownLatch(1);
+
+        private final CountDownLatch completed = new CountDownLatch(1);
+
+        RecordingEmitter(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public synchronized void send(Set<DataWithMediaType> items) throws IOException {
+            if (release != null && blocked.getCount() > 0) {
+                blocked.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            frames.add(items.stream().map(item -> item.getData().toString()).collect(Collectors.joining()));
+        }
+
+        @Override
+        public synchronized void complete() {
+            completed.countDown();
+        }
+
+        boolean isCompleted() {
+            return completed.getCount() == 0;
+        }
+
+        void awaitCompleted() throws InterruptedException {
+            assertTrue(completed.await(5, TimeUnit.SECONDS));
+        }
+
+        void awaitBlocked() throws InterruptedException {
+            assertTrue(blocked.await(5, TimeUnit.SECONDS));
+        }
+
+        void awaitEvents(int count) throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (events().size() < count && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+        }
+
+        List<String> events() {
+            return frames.stream()
+                    .filter(frame -> frame.startsWith("event:"))
+                    .map(frame -> frame.substring("event:".length(), frame.indexOf('\n')))
+                    .toList();
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.taskmanagement.service;
+
+import com.example.taskmanagement.dto.TaskFileFormat;
+import com.example.taskmanagement.dto.TaskResponse;
+import com.example.taskmanagement.entity.Task.TaskStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskExportWriterTest {
+
+    private final TaskExportWriter writer = new TaskExportWriter(new ObjectMapper().registerModule(new JavaTimeModule()));
+
+    private final TaskResponse first = TaskResponse.builder()
+            .id(1L)
+            .title("Plain")
+            .status(TaskStatus.PENDING)
+            .priority(1)
+            .userId(7L)
+            .username("testuser")
+            .createdAt(LocalDateTime.of(2025, 1, 1, 9, 0))
+            .build();
+
+    private final TaskResponse second = TaskResponse.builder()
+            .id(2L)
+            .title("Needs \"quotes\", commas")
+            .description("line one\nline two")
+            .status(TaskStatus.COMPLETED)
+            .priority(3)
+            .userId(7L)
+            .username("testuser")
+            .build();
+
+    @Test
+    void write_Ndjson_OneObjectPerLine() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long count = writer.write(Stream.of(first, second), TaskFileFormat.NDJSON, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, count);
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].startsWith("{\"id\":1,"));
+        assertTrue(lines[1].contains("\"title\":\"Needs \\\"quotes\\\", commas\""));
+    }
+
+    @Test
+    void write_Csv_QuotesFieldsThatNeedIt() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long count = writer.write(Stream.of(first, second), TaskFileFormat.CSV, out);
+
+        String csv = out.toString(StandardCharsets.UTF_8);
+        assertEquals(2, count);
+        assertTrue(csv.startsWith("id,title,description,status,priority,deadline,userId,username,createdAt,updatedAt\r\n"));
+        assertTrue(csv.contains("1,Plain,,PENDING,1,,7,testuser,2025-01-01T09:00,\r\n"));
+        assertTrue(csv.contains("2,\"Needs \"\"quotes\"\", commas\",\"line one\nline two\",COMPLETED,3"));
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.taskmanagement.service;
+
+import com.example.taskmanagement.dto.TaskFileFormat;
+import com.example.taskmanagement.dto.TaskImportReport;
+import com.example.taskmanagement.entity.Task;
+import com.example.taskmanagement.entity.Task.TaskStatus;
+import com.example.taskmanagement.entity.User;
+import com.example.taskmanagement.repository.TaskRepository;
+import com.example.taskmanagement.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskImporterTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private TaskStatsService taskStatsService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private TaskImporter taskImporter;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        taskImporter = new TaskImporter(taskRepository, userRepository, taskStatsService,
+                Validation.buildDefaultValidatorFactory().getValidator(), objectMapper,
+                transactionManager, 2, Duration.ofMinutes(5), 100);
+
+        User owner = new User();
+        owner.setId(1L);
+        when(userRepository.getReferenceById(1L)).thenReturn(owner);
+    }
+
+    @Test
+    void importTasks_Csv_InsertsValidRowsInChunksAndReportsInvalidOnes() {
+        // Arrange
+        String csv = "title,description,status,priority,deadline\r\n"
+                + "First,,PENDING,1,\r\n"
+                + ",missing title,,,\r\n"
+                + "\"Second, quoted\",\"multi\nline\",COMPLETED,2,2025-03-01T10:00\r\n"
+                + "Third,,NOT_A_STATUS,,\r\n"
+                + "Fourth,,,,\r\n";
+        List<List<Task>> chunks = captureChunks();
+
+        // Act
+        TaskImportReport report = taskImporter.importTasks(stream(csv), TaskFileFormat.CSV, "job-1", 1L);
+
+        // Assert
+        assertEquals(TaskImportReport.Status.COMPLETED, report.getStatus());
+        assertEquals(5, report.getProcessed());
+        assertEquals(3, report.getImported());
+        assertEquals(2, report.getFailed());
+        assertEquals(List.of(3L, 5L), report.getErrors().stream().map(TaskImportReport.RowError::getRow).toList());
+        assertEquals(2, chunks.size());
+        assertEquals("Second, quoted", chunks.get(0).get(1).getTitle());
+        assertEquals("multi\nline", chunks.get(0).get(1).getDescription());
+        assertEquals(TaskStatus.COMPLETED, chunks.get(0).get(1).getStatus());
+        assertEquals(TaskStatus.PENDING, chunks.get(1).get(0).getStatus());
+    }
+
+    @Test
+    void importTasks_Ndjson_ReportsMalformedLinesAndKeepsGoing() {
+        // Arrange
+        String ndjson = "{\"title\":\"One\",\"priority\":3}\n"
+                + "{not json}\n"
+                + "\n"
+                + "{\"title\":\"Two\",\"status\":\"IN_PROGRESS\"}\n";
+        List<List<Task>> chunks = captureChunks();
+
+        // Act
+        TaskImportReport report = taskImporter.importTasks(stream(ndjson), TaskFileFormat.NDJSON, null, 1L);
+
+        // Assert
+        assertEquals(3, report.getProcessed());
+        assertEquals(2, report.getImported());
+        assertEquals(1, report.getFailed());
+        assertEquals(2L, report.getErrors().get(0).getRow());
+        assertEquals(1, chunks.size());
+        assertEquals(report, taskImporter.findJob(report.getJobId()).orElseThrow().toReport());
+    }
+
+    @Test
+    void importTasks_KeepsRunningJobPastRetentionAndExpiresItAfterFinishing() throws Exception {
+        // Arrange
+        TaskImporter shortRetention = new TaskImporter(taskRepository, userRepository, taskStatsService,
+                Validation.buildDefaultValidatorFactory().getValidator(), new ObjectMapper(),
+                transactionManager, 2, Duration.ofMillis(20), 100);
+        captureChunks();
+        AtomicBoolean visibleWhileRunning = new AtomicBoolean();
+        InputStream slowUpload = new SequenceInputStream(stream("{\"title\":\"One\"}\n"), new InputStream() {
+            @Override
+            public int read() {
+                try {
+                    Thread.sleep(50);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                visibleWhileRunning.set(shortRetention.findJob("slow").isPresent());
+                return -1;
+            }
+        });
+
+        // Act
+        TaskImportReport report = shortRetention.importTasks(slowUpload, TaskFileFormat.NDJSON, "slow", 1L);
+
+        // Assert
+        assertEquals(1, report.getImported());
+        assertTrue(visibleWhileRunning.get());
+        assertTrue(shortRetention.findJob("slow").isPresent());
+        Thread.sleep(50);
+        assertTrue(shortRetention.findJob("slow").isEmpty());
+    }
+
+    private List<List<Task>> captureChunks() {
+        List<List<Task>> chunks = new ArrayList<>();
+        when(taskRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            chunks.add(List.copyOf(invocation.getArgument(0)));
+            return invocation.getArgument(0);
+        });
+        return chunks;
+    }
+
+    private static ByteArrayInputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
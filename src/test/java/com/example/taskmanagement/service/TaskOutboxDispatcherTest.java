@@ -0,0 +1,201 @@
+package com.example.taskmanagement.service;
+
+import com.example.taskmanagement.dto.TaskEvent;
+import com.example.taskmanagement.dto.TaskEventMessage;
+import com.example.taskmanagement.entity.TaskOutboxEvent;
+import com.example.taskmanagement.repository.TaskOutboxLeaseRepository;
+import com.example.taskmanagement.repository.TaskOutboxRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "task.outbox.dispatcher.enabled=false")
+@ActiveProfiles("test")
+class TaskOutboxDispatcherTest {
+
+    @Autowired
+    private TaskOutbox outbox;
+
+    @Autowired
+    private TaskOutboxDispatcher dispatcher;
+
+    @Autowired
+    private TaskOutboxRepository outboxRepository;
+
+    @Autowired
+    private TaskOutboxLeaseRepository leaseRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private RecordingSink sink;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        sink.delivered.clear();
+        sink.failingUserId = null;
+        // Events recorded by other tests sharing the database
+        outboxRepository.deleteAll();
+        leaseRepository.deleteAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        outboxRepository.deleteAll();
+        leaseRepository.deleteAll();
+    }
+
+    @Test
+    void dispatchBatch_DeliversInCommitOrderAndClearsOutbox() {
+        // Arrange
+        outbox.record(TaskEvent.deleted(10L, 1L));
+        outbox.record(TaskEvent.deleted(20L, 2L));
+        outbox.record(TaskEvent.deleted(11L, 1L));
+
+        // Act
+        int read = dispatcher.dispatchBatch();
+
+        // Assert
+        assertEquals(3, read);
+        assertEquals(List.of(10L, 20L, 11L), sink.deliveredTaskIds());
+        assertEquals(0, outboxRepository.count());
+    }
+
+    @Test
+    void dispatchBatch_HoldsBackFailingUserWithoutBlockingOthers() {
+        // Arrange
+        outbox.record(TaskEvent.deleted(10L, 1L));
+        outbox.record(TaskEvent.deleted(20L, 2L));
+        outbox.record(TaskEvent.deleted(11L, 1L));
+        sink.failingUserId = 1L;
+
+        // Act
+        dispatcher.dispatchBatch();
+
+        // Assert: user 2 went through, user 1's oldest event backs off and the next one waits behind it
+        assertEquals(List.of(20L), sink.deliveredTaskIds());
+        List<TaskOutboxEvent> waiting = outboxRepository.findAll();
+        assertEquals(2, waiting.size());
+        TaskOutboxEvent head = waiting.stream().filter(event -> event.getTaskId() == 10L).findFirst().orElseThrow();
+        assertEquals(1, head.getAttempts());
+        assertNotNull(head.getNextAttemptAt());
+        assertEquals(0, dispatcher.dispatchBatch());
+
+        // Once the backoff has passed and the sink recovers, user 1's events arrive in order
+        sink.failingUserId = null;
+        head.setNextAttemptAt(LocalDateTime.now().minusSeconds(1));
+        outboxRepository.save(head);
+        dispatcher.dispatchBatch();
+        assertEquals(List.of(20L, 10L, 11L), sink.deliveredTaskIds());
+        assertEquals(0, outboxRepository.count());
+    }
+
+    @Test
+    void dispatchBatch_FollowsEachUsersSequenceNumbersRatherThanIds() {
+        // Arrange: pooled ids from several instances can run against commit order
+        outbox.record(TaskEvent.deleted(10L, 1L));
+        outbox.record(TaskEvent.deleted(11L, 1L));
+        List<TaskOutboxEvent> recorded = outboxRepository.findAll(Sort.by("id"));
+        assertTrue(recorded.get(0).getSequenceNumber() < recorded.get(1).getSequenceNumber());
+        recorded.get(0).setSequenceNumber(recorded.get(1).getSequenceNumber() + 1);
+        outboxRepository.save(recorded.get(0));
+
+        // Act
+        dispatcher.dispatchBatch();
+
+        // Assert
+        assertEquals(List.of(11L, 10L), sink.deliveredTaskIds());
+    }
+
+    @Test
+    void record_NumbersATransactionsEventsConsecutivelyPerUser() {
+        // Act
+        transactionTemplate.executeWithoutResult(status -> {
+            outbox.record(TaskEvent.deleted(10L, 1L));
+            outbox.record(TaskEvent.deleted(20L, 2L));
+            outbox.record(TaskEvent.deleted(11L, 1L));
+        });
+
+        // Assert
+        Map<Long, Long> sequenceByTask = outboxRepository.findAll().stream()
+                .collect(Collectors.toMap(TaskOutboxEvent::getTaskId, TaskOutboxEvent::getSequenceNumber));
+        assertEquals(sequenceByTask.get(10L) + 1, sequenceByTask.get(11L));
+        assertEquals(3, sequenceByTask.size());
+    }
+
+    @Test
+    void acquireLease_LetsOneInstanceDispatchUntilItsLeaseLapses() {
+        // Arrange
+        TaskOutboxDispatcher other = new TaskOutboxDispatcher(outboxRepository, leaseRepository, objectMapper,
+                List.of(sink), false, 200, Duration.ofSeconds(1), Duration.ofMinutes(5), Duration.ofSeconds(30),
+                new SimpleMeterRegistry());
+
+        // Act & Assert
+        assertTrue(dispatcher.acquireLease());
+        assertFalse(other.acquireLease());
+        assertTrue(dispatcher.acquireLease());
+
+        leaseRepository.findAll().forEach(lease -> {
+            lease.setExpiresAt(LocalDateTime.now().minusSeconds(1));
+            leaseRepository.save(lease);
+        });
+        assertTrue(other.acquireLease());
+        assertFalse(dispatcher.acquireLease());
+    }
+
+    @TestConfiguration
+    static class SinkConfig {
+
+        @Bean
+        RecordingSink recordingSink() {
+            return new RecordingSink();
+        }
+    }
+
+    static class RecordingSink implements TaskEventSink {
+
+        final List<TaskEventMessage> delivered = new CopyOnWriteArrayList<>();
+
+        volatile Long failingUserId;
+
+        @Override
+        public String getName() {
+            return "recording";
+        }
+
+        @Override
+        public void deliver(List<TaskEventMessage> messages) throws IOException {
+            if (messages.stream().anyMatch(message -> message.getEvent().getUserId().equals(failingUserId))) {
+                throw new IOException("Sink unavailable for user " + failingUserId);
+            }
+            delivered.addAll(messages);
+        }
+
+        List<Long> deliveredTaskIds() {
+            return delivered.stream().map(message -> message.getEvent().getTaskId()).toList();
+        }
+    }
+}
@@ -1,27 +1,37 @@
 package com.example.taskmanagement.service;
 
+import com.example.taskmanagement.dto.TaskEvent;
 import com.example.taskmanagement.dto.TaskRequest;
 import com.example.taskmanagement.dto.TaskResponse;
 import com.example.taskmanagement.entity.Task;
 import com.example.taskmanagement.entity.Task.TaskStatus;
 import com.example.taskmanagement.entity.User;
+import com.example.taskmanagement.exception.AccessDeniedException;
+import com.example.taskmanagement.exception.BadRequestException;
+import com.example.taskmanagement.exception.PreconditionFailedException;
 import com.example.taskmanagement.exception.ResourceNotFoundException;
 import com.example.taskmanagement.repository.TaskRepository;
 import com.example.taskmanagement.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 
+import java.time.Duration;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -33,6 +43,21 @@ class TaskServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private TaskStatsService taskStatsService;
+
+    @Mock
+    private TaskSyncService taskSyncService;
+
+    @Mock
+    private TaskEventBroadcaster taskEventBroadcaster;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private TaskCache taskCache = new CaffeineTaskCache(100, Duration.ofMinutes(5), new SimpleMeterRegistry());
+
     @Mock
     private SecurityContext securityContext;
 
@@ -81,12 +106,13 @@ class TaskServiceTest {
         assertNotNull(response);
         assertEquals("Test Task", response.getTitle());
         verify(taskRepository, times(1)).save(any(Task.class));
+        verify(eventPublisher).publishEvent(TaskEvent.created(response));
     }
 
     @Test
     void getTaskById_Success() {
         // Arrange
-        when(taskRepository.findById(1L)).thenReturn(Optional.of(testTask));
+        when(taskRepository.findResponseById(1L)).thenReturn(Optional.of(taskService.mapToResponse(testTask)));
         when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(testUser));
 
         // Act
@@ -101,7 +127,7 @@ class TaskServiceTest {
     @Test
     void getTaskById_NotFound() {
         // Arrange
-        when(taskRepository.findById(999L)).thenReturn(Optional.empty());
+        when(taskRepository.findResponseById(999L)).thenReturn(Optional.empty());
 
         // Act & Assert
         assertThrows(ResourceNotFoundException.class, () -> {
@@ -109,6 +135,43 @@ class TaskServiceTest {
         });
     }
 
+    @Test
+    void getTaskById_ServesRepeatReadsFromCacheUntilUpdated() {
+        // Arrange
+        when(taskRepository.findResponseById(1L)).thenReturn(Optional.of(taskService.mapToResponse(testTask)));
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(testTask));
+        when(taskRepository.save(any(Task.class))).thenReturn(testTask);
+        when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(testUser));
+        TaskRequest request = new TaskRequest();
+        request.setTitle("Updated Task");
+
+        // Act
+        taskService.getTaskById(1L);
+        taskService.getTaskById(1L);
+        taskService.updateTask(1L, request, null);
+        taskService.getTaskById(1L);
+
+        // Assert
+        verify(taskRepository, times(2)).findResponseById(1L);
+        verify(taskCache).evict(1L);
+    }
+
+    @Test
+    void getTaskById_ChecksOwnershipOnCacheHit() {
+        // Arrange
+        User otherUser = new User();
+        otherUser.setId(2L);
+        otherUser.setUsername("other");
+        testTask.setUser(otherUser);
+        when(taskRepository.findResponseById(1L)).thenReturn(Optional.of(taskService.mapToResponse(testTask)));
+        when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(testUser));
+
+        // Act & Assert
+        assertThrows(AccessDeniedException.class, () -> taskService.getTaskById(1L));
+        assertThrows(AccessDeniedException.class, () -> taskService.getTaskById(1L));
+        verify(taskRepository, times(1)).findResponseById(1L);
+    }
+
     @Test
     void deleteTask_Success() {
         // Arrange
@@ -135,10 +198,98 @@ class TaskServiceTest {
         when(taskRepository.save(any(Task.class))).thenReturn(testTask);
 
         // Act
-        TaskResponse response = taskService.updateTask(1L, request);
+        TaskResponse response = taskService.updateTask(1L, request, null);
 
         // Assert
         assertNotNull(response);
         verify(taskRepository, times(1)).save(any(Task.class));
     }
-}
\ No newline at end of file
+
+    @Test
+    void updateTask_RejectsStaleIfMatch() {
+        // Arrange
+        TaskRequest request = new TaskRequest();
+        request.setTitle("Updated Task");
+        testTask.setVersion(3L);
+        String readETag = TaskETags.forTask(taskService.mapToResponse(testTask));
+        testTask.setVersion(4L);
+
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(testTask));
+        when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(testUser));
+
+        // Act & Assert
+        assertThrows(PreconditionFailedException.class, () -> taskService.updateTask(1L, request, readETag));
+        assertEquals("Test Task", testTask.getTitle());
+        verify(taskRepository, never()).save(any(Task.class));
+    }
+
+    @Test
+    void createTasks_SavesAllInOneCall() {
+        // Arrange
+        TaskRequest first = new TaskRequest();
+        first.setTitle("First");
+        TaskRequest second = new TaskRequest();
+        second.setTitle("Second");
+
+        when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(testUser));
+        when(userRepository.getReferenceById(1L)).thenReturn(testUser);
+        when(taskRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        List<TaskResponse> responses = taskService.createTasks(List.of(first, second));
+
+        // Assert
+        assertEquals(2, responses.size());
+        assertEquals(TaskStatus.PENDING, responses.get(0).getStatus());
+        verify(taskRepository, times(1)).saveAll(anyList());
+        verify(taskRepository, never()).save(any(Task.class));
+    }
+
+    @Test
+    void updateTaskStatuses_RejectsWholeBatchWhenOneTaskIsNotOwned() {
+        // Arrange
+        User otherUser = new User();
+        otherUser.setId(2L);
+        Task otherTask = new Task();
+        otherTask.setId(2L);
+        otherTask.setStatus(TaskStatus.PENDING);
+        otherTask.setUser(otherUser);
+
+        when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(testUser));
+        when(taskRepository.findAllById(any())).thenReturn(List.of(testTask, otherTask));
+
+        // Act & Assert
+        assertThrows(AccessDeniedException.class, () ->
+                taskService.updateTaskStatuses(List.of(1L, 2L), TaskStatus.COMPLETED));
+        assertEquals(TaskStatus.PENDING, testTask.getStatus());
+    }
+
+    @Test
+    void searchTasks_ScopesToOwnerAndKeepsRelevanceOrder() {
+        // Arrange
+        TaskResponse first = new TaskResponse();
+        first.setId(7L);
+        TaskResponse second = new TaskResponse();
+        second.setId(3L);
+
+        when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(testUser));
+        when(taskRepository.searchIds(1L, null, List.of("fix", "login", "bug"), 20)).thenReturn(List.of(7L, 3L));
+        when(taskRepository.findResponsesByIdIn(List.of(7L, 3L))).thenReturn(List.of(second, first));
+
+        // Act
+        List<TaskResponse> result = taskService.searchTasks("+Fix \"login\" bug* -fix", null, 20);
+
+        // Assert
+        assertEquals(List.of(7L, 3L), result.stream().map(TaskResponse::getId).toList());
+    }
+
+    @Test
+    void searchTasks_RejectsQueryWithoutTerms() {
+        // Arrange
+        when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(testUser));
+
+        // Act & Assert
+        assertThrows(BadRequestException.class, () -> taskService.searchTasks(" *+- ", null, 20));
+        verify(taskRepository, never()).searchIds(any(), any(), anyList(), anyInt());
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.taskmanagement.service;
+
+import com.example.taskmanagement.dto.TaskEvent;
+import com.example.taskmanagement.dto.TaskEventMessage;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WebhookTaskEventSinkTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    private final List<String> received = new CopyOnWriteArrayList<>();
+
+    private final AtomicInteger responseStatus = new AtomicInteger(204);
+
+    private HttpServer server;
+
+    private WebhookTaskEventSink sink;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/events", exchange -> {
+            received.add(new String(exchange.getRequestBody().readAllBytes()));
+            exchange.sendResponseHeaders(responseStatus.get(), -1);
+            exchange.close();
+        });
+        server.start();
+
+        URI url = URI.create("http://localhost:" + server.getAddress().getPort() + "/events");
+        sink = new WebhookTaskEventSink(url, Duration.ofSeconds(5), objectMapper);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void deliver_PostsBatchAsJsonArray() throws Exception {
+        // Act
+        sink.deliver(List.of(message(1L, TaskEvent.deleted(10L, 1L)), message(2L, TaskEvent.resync(2L))));
+
+        // Assert
+        assertEquals(1, received.size());
+        JsonNode body = objectMapper.readTree(received.get(0));
+        assertEquals(2, body.size());
+        assertEquals(1, body.get(0).get("id").asLong());
+        assertEquals("DELETED", body.get(0).get("event").get("type").asText());
+        assertEquals(10, body.get(0).get("event").get("taskId").asLong());
+        assertEquals("RESYNC", body.get(1).get("event").get("type").asText());
+    }
+
+    @Test
+    void deliver_FailsOnErrorResponse() {
+        // Arrange
+        responseStatus.set(503);
+
+        // Act & Assert
+        IOException ex = assertThrows(IOException.class,
+                () -> sink.deliver(List.of(message(1L, TaskEvent.deleted(10L, 1L)))));
+        assertTrue(ex.getMessage().contains("503"));
+    }
+
+    private static TaskEventMessage message(Long id, TaskEvent event) {
+        return new TaskEventMessage(id, LocalDateTime.now(), event);
+    }
+}